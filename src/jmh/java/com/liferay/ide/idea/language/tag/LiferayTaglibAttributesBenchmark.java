@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.language.tag;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the lookup of {@link LiferayTaglibAttributes} with streaming through the (tag, attribute) entries of a
+ * namespace, which is how the taglib reference contributors used to match every JSP attribute.
+ *
+ * @author Dominik Marks
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class LiferayTaglibAttributesBenchmark {
+
+	@Benchmark
+	public boolean contains() {
+		boolean hit = _liferayTaglibAttributes.contains(_NAMESPACE, _hitTagLocalName, "cssClass");
+		boolean miss = _liferayTaglibAttributes.contains(_NAMESPACE, _hitTagLocalName, "onClick");
+
+		return hit ^ miss;
+	}
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		List<AbstractMap.SimpleImmutableEntry<String, String>> entries = new ArrayList<>();
+
+		for (int i = 0; i < 100; i++) {
+			for (String attributeName : _ATTRIBUTE_NAMES) {
+				entries.add(new AbstractMap.SimpleImmutableEntry<>("tag" + i, attributeName));
+			}
+		}
+
+		_taglibAttributesMap = new HashMap<>();
+
+		_taglibAttributesMap.put(_NAMESPACE, entries);
+		_taglibAttributesMap.put("http://liferay.com/tld/ui", entries);
+
+		_liferayTaglibAttributes = LiferayTaglibAttributes.of(_taglibAttributesMap);
+
+		_hitTagLocalName = "tag99";
+	}
+
+	@Benchmark
+	public boolean streamAnyMatch() {
+		boolean hit = _streamAnyMatch(_NAMESPACE, _hitTagLocalName, "cssClass");
+		boolean miss = _streamAnyMatch(_NAMESPACE, _hitTagLocalName, "onClick");
+
+		return hit ^ miss;
+	}
+
+	private boolean _streamAnyMatch(String namespace, String localName, String attributeName) {
+		if (!_taglibAttributesMap.containsKey(namespace)) {
+			return false;
+		}
+
+		Collection<AbstractMap.SimpleImmutableEntry<String, String>> entries = _taglibAttributesMap.get(namespace);
+
+		Stream<AbstractMap.SimpleImmutableEntry<String, String>> entriesStream = entries.stream();
+
+		return entriesStream.anyMatch(
+			entry -> {
+				String key = entry.getKey();
+				String value = entry.getValue();
+
+				if (key.equals(localName) && value.equals(attributeName)) {
+					return true;
+				}
+
+				return false;
+			});
+	}
+
+	private static final String[] _ATTRIBUTE_NAMES = {
+		"cssClass", "helpMessage", "id", "label", "message", "name", "title", "value"
+	};
+
+	private static final String _NAMESPACE = "http://liferay.com/tld/aui";
+
+	private String _hitTagLocalName;
+	private LiferayTaglibAttributes _liferayTaglibAttributes;
+	private Map<String, Collection<AbstractMap.SimpleImmutableEntry<String, String>>> _taglibAttributesMap;
+
+}
\ No newline at end of file
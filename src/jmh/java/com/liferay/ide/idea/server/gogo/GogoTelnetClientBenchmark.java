@@ -0,0 +1,170 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.server.gogo;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+
+import java.net.ServerSocket;
+import java.net.Socket;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how fast responses are split at the gogo prompt, with a local server replaying the output of a portal.
+ *
+ * @author Gregory Amerson
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class GogoTelnetClientBenchmark {
+
+	@Benchmark
+	public String listBundles() throws IOException {
+		return _gogoTelnetClient.send("lb -s");
+	}
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		StringBuilder sb = new StringBuilder();
+
+		sb.append("START LEVEL 20\r\n");
+		sb.append("   ID|State      |Level|Symbolic name\r\n");
+
+		for (int i = 0; i < bundleCount; i++) {
+			sb.append(String.format("%5d|Active     |   10|com.liferay.example.module%d (1.0.%d)\r\n", i, i, i));
+		}
+
+		_listBundlesResponse = sb.toString();
+
+		_uninstallCommands = new ArrayList<>(bundleCount);
+
+		for (int i = 0; i < bundleCount; i++) {
+			_uninstallCommands.add("uninstall com.liferay.example.module" + i);
+		}
+
+		_serverSocket = new ServerSocket(0);
+
+		_serverThread = new Thread(this::_serve);
+
+		_serverThread.setDaemon(true);
+
+		_serverThread.start();
+
+		_gogoTelnetClient = new GogoTelnetClient("localhost", _serverSocket.getLocalPort());
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		_gogoTelnetClient.close();
+
+		_serverSocket.close();
+
+		_serverThread.join(5000);
+	}
+
+	@Benchmark
+	public List<String> uninstallBundles() throws IOException {
+		return _gogoTelnetClient.sendAll(_uninstallCommands);
+	}
+
+	@Param({"100", "1000"})
+	public int bundleCount;
+
+	private static void _skip(InputStream inputStream, int length) throws IOException {
+		for (int i = 0; i < length; i++) {
+			if (inputStream.read() == -1) {
+				throw new IOException("Gogo client closed the connection during the handshake");
+			}
+		}
+	}
+
+	private void _serve() {
+		try (Socket socket = _serverSocket.accept()) {
+			InputStream inputStream = socket.getInputStream();
+			OutputStream outputStream = socket.getOutputStream();
+
+			// IAC DO ECHO, IAC WILL ECHO, IAC WILL SGA, IAC DO TERMINAL-TYPE
+
+			outputStream.write(new byte[] {(byte)255, (byte)253, 1, (byte)255, (byte)251, 1});
+			outputStream.write(new byte[] {(byte)255, (byte)251, 3, (byte)255, (byte)253, 24});
+			outputStream.flush();
+
+			_skip(inputStream, 3);
+
+			outputStream.write(new byte[] {(byte)255, (byte)250, 24, 1, (byte)255, (byte)240});
+			outputStream.flush();
+
+			_skip(inputStream, 11);
+
+			outputStream.write("Welcome to Apache Felix Gogo\r\n\r\ng! ".getBytes(StandardCharsets.UTF_8));
+			outputStream.flush();
+
+			byte[] listBundlesResponse = (_listBundlesResponse + "g! ").getBytes(StandardCharsets.UTF_8);
+
+			BufferedReader bufferedReader = new BufferedReader(
+				new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+
+			String line;
+
+			while ((line = bufferedReader.readLine()) != null) {
+				if (line.equals("lb -s")) {
+					outputStream.write(listBundlesResponse);
+				}
+				else {
+					String response = "Bundle " + line.substring(10) + " uninstalled\r\ng! ";
+
+					outputStream.write(response.getBytes(StandardCharsets.UTF_8));
+				}
+
+				outputStream.flush();
+			}
+		}
+		catch (IOException ioe) {
+		}
+	}
+
+	private GogoTelnetClient _gogoTelnetClient;
+	private String _listBundlesResponse;
+	private ServerSocket _serverSocket;
+	private Thread _serverThread;
+	private List<String> _uninstallCommands;
+
+}
\ No newline at end of file
@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.server.portal;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures resolving the module path of a WildFly bundle with layers, overlays and add-ons.
+ *
+ * @author Simon Jiang
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class LayeredModulePathFactoryBenchmark {
+
+	@Benchmark
+	public File[] resolveLayeredModulePath() {
+		return LayeredModulePathFactory.resolveLayeredModulePath(_modulesDir);
+	}
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		_tempDir = Files.createTempDirectory("layered-module-path-benchmark");
+
+		Path modulesPath = _tempDir.resolve("modules");
+
+		StringBuilder layers = new StringBuilder("layers=");
+
+		for (int i = 0; i < layerCount; i++) {
+			if (i > 0) {
+				layers.append(',');
+			}
+
+			layers.append("layer");
+			layers.append(i);
+
+			Path layerPath = modulesPath.resolve("system/layers/layer" + i);
+
+			Files.createDirectories(layerPath.resolve(".overlays/overlay" + i));
+
+			Files.write(
+				layerPath.resolve(".overlays/.overlays"), ("overlay" + i + "\n").getBytes(StandardCharsets.UTF_8));
+		}
+
+		Files.createDirectories(modulesPath.resolve("system/layers/base"));
+
+		for (int i = 0; i < layerCount; i++) {
+			Files.createDirectories(modulesPath.resolve("system/add-ons/add-on" + i));
+		}
+
+		Files.write(modulesPath.resolve("layers.conf"), layers.toString().getBytes(StandardCharsets.UTF_8));
+
+		_modulesDir = modulesPath.toFile();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		try (Stream<Path> paths = Files.walk(_tempDir)) {
+			paths.sorted(
+				Comparator.reverseOrder()
+			).map(
+				Path::toFile
+			).forEach(
+				File::delete
+			);
+		}
+	}
+
+	@Param({"2", "20"})
+	public int layerCount;
+
+	private File _modulesDir;
+	private Path _tempDir;
+
+}
\ No newline at end of file
@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.util;
+
+import com.liferay.ide.idea.server.portal.PortalBundleContentIndex;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures listing the bundles of a Liferay home with marketplace lpkg files, both from a cold scan and through the
+ * index that {@link ServerUtil} keeps per Liferay home.
+ *
+ * @author Simon Jiang
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class ServerUtilBenchmark {
+
+	@Benchmark
+	public List<String> getModuleFileListFrom70Server() {
+		return ServerUtil.getModuleFileListFrom70Server(_liferayHome);
+	}
+
+	@Benchmark
+	public List<String> scanLpkgFiles() {
+		PortalBundleContentIndex portalBundleContentIndex = new PortalBundleContentIndex(_liferayHome.toPath());
+
+		return portalBundleContentIndex.getBundleNames();
+	}
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		_tempDir = Files.createTempDirectory("server-util-benchmark");
+
+		Path liferayHomePath = _tempDir.resolve("liferay");
+
+		Path modulesPath = liferayHomePath.resolve("osgi/modules");
+
+		Files.createDirectories(modulesPath);
+
+		Files.write(modulesPath.resolve("com.example.module.jar"), new byte[0]);
+
+		Path marketplacePath = liferayHomePath.resolve("osgi/marketplace");
+
+		Files.createDirectories(marketplacePath);
+
+		byte[] bytes = new byte[4096];
+
+		for (int i = 0; i < lpkgCount; i++) {
+			Path lpkgPath = marketplacePath.resolve("Liferay Example " + i + ".lpkg");
+
+			try (ZipOutputStream zipOutputStream = new ZipOutputStream(Files.newOutputStream(lpkgPath))) {
+				for (int j = 0; j < 100; j++) {
+					zipOutputStream.putNextEntry(new ZipEntry("com.liferay.example" + i + ".module" + j + ".jar"));
+
+					zipOutputStream.write(bytes);
+
+					zipOutputStream.closeEntry();
+				}
+
+				zipOutputStream.putNextEntry(new ZipEntry("liferay-marketplace.properties"));
+
+				zipOutputStream.closeEntry();
+			}
+		}
+
+		_liferayHome = liferayHomePath.toFile();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		try (Stream<Path> paths = Files.walk(_tempDir)) {
+			paths.sorted(
+				Comparator.reverseOrder()
+			).map(
+				Path::toFile
+			).forEach(
+				File::delete
+			);
+		}
+	}
+
+	@Param({"5", "50"})
+	public int lpkgCount;
+
+	private File _liferayHome;
+	private Path _tempDir;
+
+}
\ No newline at end of file
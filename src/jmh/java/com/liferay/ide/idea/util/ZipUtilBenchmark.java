@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.util;
+
+import com.intellij.openapi.util.Pair;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures extracting the web resources of a module source jar, once through a {@link ZipUtil.PathFilter} and once
+ * through the selected entries.
+ *
+ * @author Simon Jiang
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class ZipUtilBenchmark {
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		_tempDir = Files.createTempDirectory("zip-util-benchmark");
+
+		_jarFile = new File(_tempDir.toFile(), "com.liferay.example.web-sources.jar");
+
+		byte[] bytes = new byte[2048];
+
+		try (ZipOutputStream zipOutputStream = new ZipOutputStream(Files.newOutputStream(_jarFile.toPath()))) {
+			zipOutputStream.putNextEntry(new ZipEntry(_RESOURCES_DIR));
+
+			zipOutputStream.closeEntry();
+
+			for (int i = 0; i < entryCount; i++) {
+				if ((i % 10) == 0) {
+					zipOutputStream.putNextEntry(new ZipEntry(_RESOURCES_DIR + "view" + i + ".jsp"));
+				}
+				else {
+					zipOutputStream.putNextEntry(new ZipEntry("com/liferay/example/web/Example" + i + ".java"));
+				}
+
+				zipOutputStream.write(bytes);
+
+				zipOutputStream.closeEntry();
+			}
+
+			zipOutputStream.putNextEntry(new ZipEntry("META-INF/MANIFEST.MF"));
+
+			zipOutputStream.write("Manifest-Version: 1.0\r\n".getBytes(StandardCharsets.UTF_8));
+
+			zipOutputStream.closeEntry();
+		}
+
+		_destDir = new File(_tempDir.toFile(), "dest");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		try (Stream<Path> paths = Files.walk(_tempDir)) {
+			paths.sorted(
+				Comparator.reverseOrder()
+			).map(
+				Path::toFile
+			).forEach(
+				File::delete
+			);
+		}
+	}
+
+	@Benchmark
+	public List<File> unzipEntries() throws IOException {
+		Map<String, File> entryDestDirs = new HashMap<>();
+
+		entryDestDirs.put(_RESOURCES_DIR, _destDir);
+
+		return ZipUtil.unzipEntries(_jarFile, entryDestDirs);
+	}
+
+	@Benchmark
+	public File unzipWithPathFilter() throws IOException {
+		ZipUtil.unzip(
+			_jarFile, _destDir,
+			entryPath -> {
+				if (entryPath.startsWith(_RESOURCES_DIR)) {
+					return Pair.create(true, _destDir);
+				}
+
+				return Pair.create(false, null);
+			});
+
+		return _destDir;
+	}
+
+	@Param({"1000", "10000"})
+	public int entryCount;
+
+	private static final String _RESOURCES_DIR = "META-INF/resources/";
+
+	private File _destDir;
+	private File _jarFile;
+	private Path _tempDir;
+
+}
\ No newline at end of file
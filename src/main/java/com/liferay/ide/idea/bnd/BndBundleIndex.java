@@ -0,0 +1,343 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.bnd;
+
+import aQute.bnd.header.OSGiHeader;
+import aQute.bnd.osgi.Constants;
+import aQute.bnd.osgi.Processor;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.FilenameIndex;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.GlobalSearchScopesCore;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.IOUtil;
+import com.intellij.util.io.KeyDescriptor;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StringReader;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Maps the Bundle-SymbolicName of each bnd.bnd to its Export-Package and Import-Package headers. The module root of a
+ * bundle is the directory of the indexed bnd.bnd, so bundle identity can be looked up in both directions without
+ * walking the file system.
+ *
+ * @author Dominik Marks
+ */
+public class BndBundleIndex extends FileBasedIndexExtension<String, BndBundleInfo> {
+
+	public static final String BND_FILE_NAME = "bnd.bnd";
+
+	public static final ID<String, BndBundleInfo> NAME = ID.create("com.liferay.ide.idea.bnd.bundle");
+
+	/**
+	 * Must be called in a read action while the index is available.
+	 */
+	@Nullable
+	public static BndBundleInfo getBundleInfo(@NotNull Project project, @NotNull String bsn) {
+		FileBasedIndex fileBasedIndex = FileBasedIndex.getInstance();
+
+		List<BndBundleInfo> bndBundleInfos = fileBasedIndex.getValues(
+			NAME, bsn, GlobalSearchScope.projectScope(project));
+
+		if (bndBundleInfos.isEmpty()) {
+			return null;
+		}
+
+		return bndBundleInfos.get(0);
+	}
+
+	/**
+	 * Must be called in a read action while the index is available.
+	 *
+	 * @return the Bundle-SymbolicName of the bundle built from the given module root, or <code>null</code> if the
+	 *         module root has no indexed bnd.bnd
+	 */
+	@Nullable
+	public static String getBundleSymbolicName(@NotNull Project project, @NotNull VirtualFile moduleRoot) {
+		VirtualFile bndFile = moduleRoot.findChild(BND_FILE_NAME);
+
+		if (bndFile == null) {
+			return null;
+		}
+
+		return _getBundleSymbolicName(project, bndFile);
+	}
+
+	/**
+	 * Must be called in a read action while the index is available.
+	 *
+	 * @return the module roots below the given directory, including the directory itself, keyed by the
+	 *         Bundle-SymbolicName of the bundle built from them. A bnd.bnd below another module root is not a module
+	 *         root of its own.
+	 */
+	@NotNull
+	public static Map<String, VirtualFile> getBundleSymbolicNames(
+		@NotNull Project project, @NotNull VirtualFile directory) {
+
+		Collection<VirtualFile> bndFiles = FilenameIndex.getVirtualFilesByName(
+			project, BND_FILE_NAME, GlobalSearchScopesCore.directoryScope(project, directory, true));
+
+		Set<VirtualFile> bndDirectories = new HashSet<>();
+
+		for (VirtualFile bndFile : bndFiles) {
+			bndDirectories.add(bndFile.getParent());
+		}
+
+		Map<String, VirtualFile> moduleRoots = new TreeMap<>();
+
+		for (VirtualFile bndFile : bndFiles) {
+			VirtualFile moduleRoot = bndFile.getParent();
+
+			if (_isNested(moduleRoot, directory, bndDirectories)) {
+				continue;
+			}
+
+			String bsn = _getBundleSymbolicName(project, bndFile);
+
+			if (bsn != null) {
+				moduleRoots.putIfAbsent(bsn, moduleRoot);
+			}
+		}
+
+		return moduleRoots;
+	}
+
+	/**
+	 * Must be called in a read action while the index is available.
+	 */
+	@NotNull
+	public static List<VirtualFile> getModuleRoots(@NotNull Project project, @NotNull String bsn) {
+		FileBasedIndex fileBasedIndex = FileBasedIndex.getInstance();
+
+		List<VirtualFile> moduleRoots = new ArrayList<>();
+
+		for (VirtualFile bndFile :
+				fileBasedIndex.getContainingFiles(NAME, bsn, GlobalSearchScope.projectScope(project))) {
+
+			moduleRoots.add(bndFile.getParent());
+		}
+
+		return moduleRoots;
+	}
+
+	@Override
+	public boolean dependsOnFileContent() {
+		return true;
+	}
+
+	@NotNull
+	@Override
+	public DataIndexer<String, BndBundleInfo, FileContent> getIndexer() {
+		return fileContent -> {
+			Properties properties = new Properties();
+
+			CharSequence contentAsText = fileContent.getContentAsText();
+
+			try {
+				properties.load(new StringReader(contentAsText.toString()));
+			}
+			catch (IOException | IllegalArgumentException e) {
+				return Collections.emptyMap();
+			}
+
+			String bsn = _getFirstClause(properties.getProperty(Constants.BUNDLE_SYMBOLICNAME));
+
+			if (bsn == null) {
+				return Collections.emptyMap();
+			}
+
+			BndBundleInfo bndBundleInfo = new BndBundleInfo(
+				_getClauses(properties.getProperty(Constants.EXPORT_PACKAGE)),
+				_getClauses(properties.getProperty(Constants.IMPORT_PACKAGE)));
+
+			return Collections.singletonMap(bsn, bndBundleInfo);
+		};
+	}
+
+	@NotNull
+	@Override
+	public FileBasedIndex.InputFilter getInputFilter() {
+		return new DefaultFileTypeSpecificInputFilter(BndFileType.INSTANCE) {
+
+			@Override
+			public boolean acceptInput(@NotNull VirtualFile virtualFile) {
+				return Objects.equals(BND_FILE_NAME, virtualFile.getName());
+			}
+
+		};
+	}
+
+	@NotNull
+	@Override
+	public KeyDescriptor<String> getKeyDescriptor() {
+		return EnumeratorStringDescriptor.INSTANCE;
+	}
+
+	@NotNull
+	@Override
+	public ID<String, BndBundleInfo> getName() {
+		return NAME;
+	}
+
+	@NotNull
+	@Override
+	public DataExternalizer<BndBundleInfo> getValueExternalizer() {
+		return new DataExternalizer<BndBundleInfo>() {
+
+			@Override
+			public BndBundleInfo read(@NotNull DataInput dataInput) throws IOException {
+				List<String> exportPackages = _readStrings(dataInput);
+
+				return new BndBundleInfo(exportPackages, _readStrings(dataInput));
+			}
+
+			@Override
+			public void save(@NotNull DataOutput dataOutput, BndBundleInfo bndBundleInfo) throws IOException {
+				_writeStrings(dataOutput, bndBundleInfo.getExportPackages());
+				_writeStrings(dataOutput, bndBundleInfo.getImportPackages());
+			}
+
+		};
+	}
+
+	@Override
+	public int getVersion() {
+		return 1;
+	}
+
+	@Nullable
+	private static String _getBundleSymbolicName(@NotNull Project project, @NotNull VirtualFile bndFile) {
+		FileBasedIndex fileBasedIndex = FileBasedIndex.getInstance();
+
+		Map<String, BndBundleInfo> fileData = fileBasedIndex.getFileData(NAME, bndFile, project);
+
+		if (fileData.isEmpty()) {
+			return null;
+		}
+
+		Set<String> bsns = fileData.keySet();
+
+		Iterator<String> iterator = bsns.iterator();
+
+		return iterator.next();
+	}
+
+	@NotNull
+	private static List<String> _getClauses(@Nullable String header) {
+		if ((header == null) || header.trim().isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		List<String> clauses = new ArrayList<>();
+
+		try {
+			for (String key : OSGiHeader.parseHeader(header).keySet()) {
+				clauses.add(Processor.removeDuplicateMarker(key));
+			}
+		}
+		catch (IllegalArgumentException iae) {
+		}
+
+		return clauses;
+	}
+
+	@Nullable
+	private static String _getFirstClause(@Nullable String header) {
+		List<String> clauses = _getClauses(header);
+
+		if (clauses.isEmpty()) {
+			return null;
+		}
+
+		String clause = clauses.get(0);
+
+		if (clause.isEmpty() || (clause.indexOf('$') != -1)) {
+			return null;
+		}
+
+		return clause;
+	}
+
+	private static boolean _isNested(
+		@NotNull VirtualFile moduleRoot, @NotNull VirtualFile directory, @NotNull Set<VirtualFile> bndDirectories) {
+
+		VirtualFile parent = moduleRoot;
+
+		while (!parent.equals(directory)) {
+			parent = parent.getParent();
+
+			if (parent == null) {
+				return false;
+			}
+
+			if (bndDirectories.contains(parent)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	@NotNull
+	private static List<String> _readStrings(@NotNull DataInput dataInput) throws IOException {
+		int size = DataInputOutputUtil.readINT(dataInput);
+
+		List<String> strings = new ArrayList<>(size);
+
+		for (int i = 0; i < size; i++) {
+			strings.add(IOUtil.readUTF(dataInput));
+		}
+
+		return strings;
+	}
+
+	private static void _writeStrings(@NotNull DataOutput dataOutput, @NotNull List<String> strings)
+		throws IOException {
+
+		DataInputOutputUtil.writeINT(dataOutput, strings.size());
+
+		for (String string : strings) {
+			IOUtil.writeUTF(dataOutput, string);
+		}
+	}
+
+}
\ No newline at end of file
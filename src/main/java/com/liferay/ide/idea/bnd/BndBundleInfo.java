@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.bnd;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The package headers of one bnd.bnd, as stored in {@link BndBundleIndex}.
+ *
+ * @author Dominik Marks
+ */
+public class BndBundleInfo {
+
+	public BndBundleInfo(@NotNull List<String> exportPackages, @NotNull List<String> importPackages) {
+		_exportPackages = Collections.unmodifiableList(exportPackages);
+		_importPackages = Collections.unmodifiableList(importPackages);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof BndBundleInfo)) {
+			return false;
+		}
+
+		BndBundleInfo bndBundleInfo = (BndBundleInfo)obj;
+
+		if (Objects.equals(_exportPackages, bndBundleInfo._exportPackages) &&
+			Objects.equals(_importPackages, bndBundleInfo._importPackages)) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	@NotNull
+	public List<String> getExportPackages() {
+		return _exportPackages;
+	}
+
+	@NotNull
+	public List<String> getImportPackages() {
+		return _importPackages;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(_exportPackages, _importPackages);
+	}
+
+	private final List<String> _exportPackages;
+	private final List<String> _importPackages;
+
+}
\ No newline at end of file
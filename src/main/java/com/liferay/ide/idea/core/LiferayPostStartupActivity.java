@@ -16,14 +16,15 @@ package com.liferay.ide.idea.core;
 
 import com.intellij.openapi.externalSystem.service.project.manage.ProjectDataImportListener;
 import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.openapi.project.DumbAware;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.startup.StartupActivity;
 import com.intellij.openapi.startup.StartupManager;
-import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.util.messages.MessageBus;
 import com.intellij.util.messages.MessageBusConnection;
 
+import com.liferay.ide.idea.language.osgi.ComponentPropertiesIndexService;
 import com.liferay.ide.idea.util.LiferayWorkspaceSupport;
 import com.liferay.ide.idea.util.ProjectConfigurationUtil;
 import com.liferay.ide.idea.util.WorkspaceConstants;
@@ -40,13 +41,25 @@ public class LiferayPostStartupActivity implements DumbAware, LiferayWorkspaceSu
 
 	@Override
 	public void runActivity(@NotNull Project project) {
-		VirtualFile projectDirVirtualFile = LiferayWorkspaceSupport.getWorkspaceVirtualFile(project);
+		String basePath = project.getBasePath();
 
-		if (projectDirVirtualFile == null) {
+		if (basePath == null) {
 			return;
 		}
 
-		projectDirVirtualFile.refresh(false, true);
+		ProgressManager progressManager = ProgressManager.getInstance();
+
+		progressManager.run(new LiferayWorkspaceRefreshTask(project, basePath));
+
+		LiferayTargetPlatformDependenciesService liferayTargetPlatformDependenciesService =
+			LiferayTargetPlatformDependenciesService.getInstance(project);
+
+		liferayTargetPlatformDependenciesService.refreshAsync();
+
+		ComponentPropertiesIndexService componentPropertiesIndexService = ComponentPropertiesIndexService.getInstance(
+			project);
+
+		componentPropertiesIndexService.indexAsync();
 
 		MessageBus messageBus = project.getMessageBus();
 
@@ -49,7 +49,7 @@ public class LiferayProjectTypeService implements PersistentStateComponent<Proje
 			return projectType;
 		}
 
-		if (LiferayWorkspaceSupport.isValidGradleWorkspaceLocation(project.getBasePath())) {
+		if (LiferayWorkspaceSupport.isValidGradleWorkspaceProject(project)) {
 			return new ProjectType(LiferayProjectType.LIFERAY_GRADLE_WORKSPACE);
 		}
 
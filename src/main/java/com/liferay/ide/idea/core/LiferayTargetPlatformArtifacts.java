@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.core;
+
+import com.intellij.openapi.externalSystem.model.project.LibraryData;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Immutable snapshot of the target platform libraries, sorted by artifact id and indexed by artifact id and by
+ * group id and artifact id.
+ *
+ * @author Simon Jiang
+ */
+public class LiferayTargetPlatformArtifacts {
+
+	public static LiferayTargetPlatformArtifacts of(@NotNull Collection<LibraryData> libraryDatas) {
+		return new LiferayTargetPlatformArtifacts(libraryDatas, 0);
+	}
+
+	public LiferayTargetPlatformArtifacts(@NotNull Collection<LibraryData> libraryDatas, long version) {
+		List<LibraryData> artifacts = new ArrayList<>(libraryDatas);
+
+		artifacts.sort(
+			Comparator.comparing(LibraryData::getArtifactId, Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER)));
+
+		Map<String, LibraryData> artifactIdMap = new HashMap<>();
+		Map<String, LibraryData> groupArtifactIdMap = new HashMap<>();
+
+		for (LibraryData libraryData : artifacts) {
+			String artifactId = libraryData.getArtifactId();
+
+			if (artifactId == null) {
+				continue;
+			}
+
+			artifactIdMap.putIfAbsent(artifactId, libraryData);
+			groupArtifactIdMap.putIfAbsent(_getKey(libraryData.getGroupId(), artifactId), libraryData);
+		}
+
+		_artifacts = Collections.unmodifiableList(artifacts);
+		_artifactIdMap = artifactIdMap;
+		_groupArtifactIdMap = groupArtifactIdMap;
+		_version = version;
+	}
+
+	@Nullable
+	public LibraryData getArtifact(@Nullable String artifactId) {
+		if (artifactId == null) {
+			return null;
+		}
+
+		return _artifactIdMap.get(artifactId);
+	}
+
+	@Nullable
+	public LibraryData getArtifact(@Nullable String groupId, @Nullable String artifactId) {
+		if (artifactId == null) {
+			return null;
+		}
+
+		return _groupArtifactIdMap.get(_getKey(groupId, artifactId));
+	}
+
+	@NotNull
+	public List<LibraryData> getArtifacts() {
+		return _artifacts;
+	}
+
+	public long getVersion() {
+		return _version;
+	}
+
+	private static String _getKey(@Nullable String groupId, @NotNull String artifactId) {
+		return groupId + ":" + artifactId;
+	}
+
+	private final Map<String, LibraryData> _artifactIdMap;
+	private final List<LibraryData> _artifacts;
+	private final Map<String, LibraryData> _groupArtifactIdMap;
+	private final long _version;
+
+}
\ No newline at end of file
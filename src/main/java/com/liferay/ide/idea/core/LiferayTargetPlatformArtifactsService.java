@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.core;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.externalSystem.model.DataNode;
+import com.intellij.openapi.externalSystem.model.ExternalProjectInfo;
+import com.intellij.openapi.externalSystem.model.ProjectKeys;
+import com.intellij.openapi.externalSystem.model.project.LibraryData;
+import com.intellij.openapi.externalSystem.model.project.ProjectData;
+import com.intellij.openapi.externalSystem.service.project.ProjectDataManager;
+import com.intellij.openapi.externalSystem.service.project.manage.ProjectDataImportListener;
+import com.intellij.openapi.project.Project;
+import com.intellij.util.messages.MessageBus;
+import com.intellij.util.messages.MessageBusConnection;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.plugins.gradle.util.GradleConstants;
+
+/**
+ * Builds the target platform snapshot once per Gradle sync instead of walking the project data on every request.
+ *
+ * @author Simon Jiang
+ */
+public class LiferayTargetPlatformArtifactsService implements Disposable {
+
+	public static LiferayTargetPlatformArtifactsService getInstance(@NotNull Project project) {
+		return ServiceManager.getService(project, LiferayTargetPlatformArtifactsService.class);
+	}
+
+	public LiferayTargetPlatformArtifactsService(@NotNull Project project) {
+		_project = project;
+
+		MessageBus messageBus = project.getMessageBus();
+
+		MessageBusConnection messageBusConnection = messageBus.connect(this);
+
+		messageBusConnection.subscribe(ProjectDataImportListener.TOPIC, projectPath -> invalidate());
+	}
+
+	@Override
+	public void dispose() {
+		invalidate();
+	}
+
+	@NotNull
+	public LiferayTargetPlatformArtifacts getTargetPlatformArtifacts() {
+		LiferayTargetPlatformArtifacts targetPlatformArtifacts = _targetPlatformArtifacts;
+
+		if (targetPlatformArtifacts != null) {
+			return targetPlatformArtifacts;
+		}
+
+		synchronized (this) {
+			targetPlatformArtifacts = _targetPlatformArtifacts;
+
+			if (targetPlatformArtifacts == null) {
+				long version = _version.get();
+
+				targetPlatformArtifacts = new LiferayTargetPlatformArtifacts(_getLibraryDatas(), version);
+
+				if (version == _version.get()) {
+					_targetPlatformArtifacts = targetPlatformArtifacts;
+				}
+			}
+
+			return targetPlatformArtifacts;
+		}
+	}
+
+	public void invalidate() {
+		_version.incrementAndGet();
+
+		_targetPlatformArtifacts = null;
+	}
+
+	@NotNull
+	private List<LibraryData> _getLibraryDatas() {
+		List<LibraryData> libraryDatas = new ArrayList<>();
+
+		if (_project.isDisposed()) {
+			return libraryDatas;
+		}
+
+		ProjectDataManager projectDataManager = ProjectDataManager.getInstance();
+
+		Collection<ExternalProjectInfo> externalProjectInfos = projectDataManager.getExternalProjectsData(
+			_project, GradleConstants.SYSTEM_ID);
+
+		for (ExternalProjectInfo externalProjectInfo : externalProjectInfos) {
+			DataNode<ProjectData> projectData = externalProjectInfo.getExternalProjectStructure();
+
+			if (projectData == null) {
+				continue;
+			}
+
+			for (DataNode<?> child : projectData.getChildren()) {
+				if (ProjectKeys.LIBRARY.equals(child.getKey())) {
+					libraryDatas.add((LibraryData)child.getData());
+				}
+			}
+
+			break;
+		}
+
+		return libraryDatas;
+	}
+
+	private final Project _project;
+	private volatile LiferayTargetPlatformArtifacts _targetPlatformArtifacts;
+	private final AtomicLong _version = new AtomicLong();
+
+}
\ No newline at end of file
@@ -0,0 +1,365 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.core;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.Application;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.projectRoots.impl.JavaHomeFinder;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.util.messages.MessageBus;
+import com.intellij.util.messages.MessageBusConnection;
+
+import com.liferay.ide.idea.util.LiferayWorkspaceSupport;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.gradle.tooling.GradleConnector;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Caches the output of the workspace <code>dependencyManagement</code> task on disk, keyed by the target platform
+ * version and a hash of the workspace <code>gradle.properties</code> and <code>settings.gradle</code>.
+ *
+ * @author Terry Jia
+ * @author Simon Jiang
+ */
+public class LiferayTargetPlatformDependenciesService implements Disposable, LiferayWorkspaceSupport {
+
+	public static LiferayTargetPlatformDependenciesService getInstance(@NotNull Project project) {
+		return ServiceManager.getService(project, LiferayTargetPlatformDependenciesService.class);
+	}
+
+	public LiferayTargetPlatformDependenciesService(@NotNull Project project) {
+		_project = project;
+
+		MessageBus messageBus = project.getMessageBus();
+
+		MessageBusConnection messageBusConnection = messageBus.connect(this);
+
+		messageBusConnection.subscribe(
+			VirtualFileManager.VFS_CHANGES,
+			new BulkFileListener() {
+
+				@Override
+				public void after(@NotNull List<? extends VFileEvent> events) {
+					for (VFileEvent event : events) {
+						if (_isCacheInput(event.getPath())) {
+							_cacheKey = null;
+							_dependencies.clear();
+
+							refreshAsync();
+
+							return;
+						}
+					}
+				}
+
+			});
+	}
+
+	@Override
+	public void dispose() {
+		_cacheKey = null;
+		_dependencies.clear();
+	}
+
+	/**
+	 * Only looks at what the last call to {@link #getDependencies()} left in memory, so it is safe to call on the
+	 * event dispatch thread.
+	 *
+	 * @return the cached dependencies, or <code>null</code> if they have not been resolved for the current workspace
+	 *         configuration yet
+	 */
+	@Nullable
+	public List<String> getCachedDependencies() {
+		String cacheKey = _cacheKey;
+
+		if (cacheKey == null) {
+			return null;
+		}
+
+		return _dependencies.get(cacheKey);
+	}
+
+	@NotNull
+	public synchronized List<String> getDependencies() {
+		String cacheKey = _getCacheKey();
+
+		_cacheKey = cacheKey;
+
+		if (cacheKey == null) {
+			return Collections.emptyList();
+		}
+
+		List<String> dependencies = _dependencies.get(cacheKey);
+
+		if (dependencies != null) {
+			return dependencies;
+		}
+
+		dependencies = _readCacheFile(cacheKey);
+
+		if (dependencies != null) {
+			_dependencies.put(cacheKey, dependencies);
+
+			return dependencies;
+		}
+
+		dependencies = _resolveDependencies();
+
+		if (!dependencies.isEmpty()) {
+			_writeCacheFile(cacheKey, dependencies);
+
+			_dependencies.put(cacheKey, dependencies);
+		}
+
+		return dependencies;
+	}
+
+	public void refreshAsync() {
+		if (_project.isDisposed() || !LiferayWorkspaceSupport.isValidGradleWorkspaceProject(_project) ||
+			(getTargetPlatformVersion(_project) == null)) {
+
+			return;
+		}
+
+		Application application = ApplicationManager.getApplication();
+
+		application.executeOnPooledThread(
+			() -> {
+				try {
+					getDependencies();
+				}
+				catch (Exception e) {
+					_log.warn("Unable to resolve target platform dependencies", e);
+				}
+			});
+	}
+
+	@Nullable
+	private String _getCacheKey() {
+		String basePath = _project.getBasePath();
+
+		if (basePath == null) {
+			return null;
+		}
+
+		String targetPlatformVersion = getTargetPlatformVersion(_project);
+
+		if (targetPlatformVersion == null) {
+			return null;
+		}
+
+		try {
+			MessageDigest messageDigest = MessageDigest.getInstance("SHA-1");
+
+			for (String fileName : _CACHE_INPUT_FILE_NAMES) {
+				Path path = Paths.get(basePath, fileName);
+
+				if (Files.exists(path)) {
+					messageDigest.update(Files.readAllBytes(path));
+				}
+			}
+
+			String cacheKey = targetPlatformVersion + "-" + StringUtil.toHexString(messageDigest.digest());
+
+			return cacheKey.replaceAll("[^\\w.\\-]", "_");
+		}
+		catch (IOException | NoSuchAlgorithmException e) {
+			return null;
+		}
+	}
+
+	@NotNull
+	private Path _getCacheFile(@NotNull String cacheKey) {
+		return Paths.get(PathManager.getSystemPath(), "liferay", "target-platform", cacheKey + ".txt");
+	}
+
+	@Nullable
+	private File _getJavaHomeFile() {
+		List<String> javaHomePaths = JavaHomeFinder.suggestHomePaths();
+
+		if (!javaHomePaths.isEmpty()) {
+			return new File(javaHomePaths.get(0));
+		}
+
+		String pathEnv = System.getenv("PATH");
+
+		if (pathEnv != null) {
+			String[] paths = pathEnv.split(Pattern.quote(File.pathSeparator));
+
+			for (String pathValue : paths) {
+				Path path = Paths.get(pathValue);
+
+				Path javaPath = path.resolve("java");
+
+				if (Files.exists(javaPath)) {
+					File javaHomeFile = javaPath.toFile();
+
+					javaHomeFile = javaHomeFile.getParentFile();
+
+					return javaHomeFile.getParentFile();
+				}
+			}
+		}
+
+		return new File(System.getProperty("java.home"));
+	}
+
+	private boolean _isCacheInput(@Nullable String path) {
+		String basePath = _project.getBasePath();
+
+		if ((path == null) || (basePath == null)) {
+			return false;
+		}
+
+		for (String fileName : _CACHE_INPUT_FILE_NAMES) {
+			if (path.equals(basePath + "/" + fileName)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	@Nullable
+	private List<String> _readCacheFile(@NotNull String cacheKey) {
+		Path cacheFile = _getCacheFile(cacheKey);
+
+		if (Files.notExists(cacheFile)) {
+			return null;
+		}
+
+		try {
+			return Collections.unmodifiableList(Files.readAllLines(cacheFile, StandardCharsets.UTF_8));
+		}
+		catch (IOException ioe) {
+			return null;
+		}
+	}
+
+	@NotNull
+	private List<String> _resolveDependencies() {
+		File javaHomeFile = _getJavaHomeFile();
+
+		if ((javaHomeFile == null) || !javaHomeFile.exists()) {
+			return Collections.emptyList();
+		}
+
+		OutputStream outputStream = new ByteArrayOutputStream();
+
+		GradleConnector.newConnector(
+		).forProjectDirectory(
+			new File(_project.getBasePath())
+		).connect(
+		).newBuild(
+		).setJavaHome(
+			javaHomeFile
+		).forTasks(
+			"dependencyManagement"
+		).setStandardOutput(
+			outputStream
+		).run();
+
+		String output = outputStream.toString();
+
+		List<String> list = new ArrayList<>();
+
+		if (!output.equals("")) {
+			BufferedReader bufferedReader = new BufferedReader(new StringReader(output));
+
+			String line;
+
+			try {
+				boolean start = false;
+
+				while ((line = bufferedReader.readLine()) != null) {
+					if (Objects.equals("compileOnly - Dependency management for the compileOnly configuration", line)) {
+						start = true;
+
+						continue;
+					}
+
+					if (start) {
+						if (StringUtil.equals(line.trim(), "")) {
+							break;
+						}
+
+						list.add(line.trim());
+					}
+				}
+			}
+			catch (IOException ioe) {
+			}
+		}
+
+		return Collections.unmodifiableList(list);
+	}
+
+	private void _writeCacheFile(@NotNull String cacheKey, @NotNull List<String> dependencies) {
+		Path cacheFile = _getCacheFile(cacheKey);
+
+		try {
+			Files.createDirectories(cacheFile.getParent());
+
+			Files.write(cacheFile, dependencies, StandardCharsets.UTF_8);
+		}
+		catch (IOException ioe) {
+			_log.warn("Unable to write target platform dependencies cache " + cacheFile, ioe);
+		}
+	}
+
+	private static final String[] _CACHE_INPUT_FILE_NAMES = {
+		LiferayWorkspaceSupport.GRADLE_PROPERTIES_FILE_NAME, LiferayWorkspaceSupport.SETTINGS_GRADLE_FILE_NAME
+	};
+
+	private static final Logger _log = Logger.getInstance(LiferayTargetPlatformDependenciesService.class);
+
+	private volatile String _cacheKey;
+	private final Map<String, List<String>> _dependencies = new ConcurrentHashMap<>();
+	private final Project _project;
+
+}
\ No newline at end of file
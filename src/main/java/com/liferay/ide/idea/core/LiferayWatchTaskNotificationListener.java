@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.core;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.externalSystem.model.task.ExternalSystemTask;
+import com.intellij.openapi.externalSystem.model.task.ExternalSystemTaskId;
+import com.intellij.openapi.externalSystem.model.task.ExternalSystemTaskNotificationListenerAdapter;
+import com.intellij.openapi.externalSystem.model.task.ExternalSystemTaskType;
+import com.intellij.openapi.externalSystem.service.internal.ExternalSystemProcessingManager;
+import com.intellij.openapi.project.Project;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * @author Simon Jiang
+ */
+public class LiferayWatchTaskNotificationListener extends ExternalSystemTaskNotificationListenerAdapter {
+
+	@Override
+	public void onEnd(@NotNull ExternalSystemTaskId externalSystemTaskId) {
+		Project project = _getProject(externalSystemTaskId);
+
+		if (project == null) {
+			return;
+		}
+
+		LiferayWatchTaskService liferayWatchTaskService = LiferayWatchTaskService.getInstance(project);
+
+		liferayWatchTaskService.taskEnded(externalSystemTaskId);
+	}
+
+	@Override
+	public void onStart(@NotNull ExternalSystemTaskId externalSystemTaskId, String workingDir) {
+		Project project = _getProject(externalSystemTaskId);
+
+		if (project == null) {
+			return;
+		}
+
+		ExternalSystemProcessingManager externalSystemProcessingManager = ServiceManager.getService(
+			ExternalSystemProcessingManager.class);
+
+		ExternalSystemTask externalSystemTask = externalSystemProcessingManager.findTask(externalSystemTaskId);
+
+		String watchedProjectPath = LiferayWatchTaskService.getWatchedProjectPath(externalSystemTask);
+
+		if (watchedProjectPath == null) {
+			return;
+		}
+
+		LiferayWatchTaskService liferayWatchTaskService = LiferayWatchTaskService.getInstance(project);
+
+		liferayWatchTaskService.taskStarted(externalSystemTaskId, watchedProjectPath);
+	}
+
+	private Project _getProject(@NotNull ExternalSystemTaskId externalSystemTaskId) {
+		if (externalSystemTaskId.getType() != ExternalSystemTaskType.EXECUTE_TASK) {
+			return null;
+		}
+
+		Project project = externalSystemTaskId.findProject();
+
+		if ((project == null) || project.isDisposed()) {
+			return null;
+		}
+
+		return project;
+	}
+
+}
\ No newline at end of file
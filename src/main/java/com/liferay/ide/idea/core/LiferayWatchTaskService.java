@@ -0,0 +1,156 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.core;
+
+import com.intellij.ide.projectView.ProjectView;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.Application;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.externalSystem.model.task.ExternalSystemTask;
+import com.intellij.openapi.externalSystem.model.task.ExternalSystemTaskId;
+import com.intellij.openapi.externalSystem.model.task.ExternalSystemTaskState;
+import com.intellij.openapi.externalSystem.service.internal.ExternalSystemExecuteTaskTask;
+import com.intellij.openapi.externalSystem.service.internal.ExternalSystemProcessingManager;
+import com.intellij.openapi.project.Project;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.plugins.gradle.util.GradleConstants;
+
+/**
+ * Keeps the external project paths of the running Gradle watch tasks, so the project view can tell whether a module
+ * is being watched with a single lookup.
+ *
+ * @author Simon Jiang
+ */
+public class LiferayWatchTaskService implements Disposable {
+
+	public static LiferayWatchTaskService getInstance(@NotNull Project project) {
+		return ServiceManager.getService(project, LiferayWatchTaskService.class);
+	}
+
+	/**
+	 * @return the external project path of the given task if it runs the Gradle watch task, otherwise
+	 *         <code>null</code>
+	 */
+	@Nullable
+	public static String getWatchedProjectPath(@Nullable ExternalSystemTask externalSystemTask) {
+		if (!(externalSystemTask instanceof ExternalSystemExecuteTaskTask)) {
+			return null;
+		}
+
+		ExternalSystemTaskId externalSystemTaskId = externalSystemTask.getId();
+
+		if (!GradleConstants.SYSTEM_ID.equals(externalSystemTaskId.getProjectSystemId())) {
+			return null;
+		}
+
+		ExternalSystemExecuteTaskTask externalSystemExecuteTaskTask = (ExternalSystemExecuteTaskTask)externalSystemTask;
+
+		List<String> tasksToExecute = externalSystemExecuteTaskTask.getTasksToExecute();
+
+		if (!tasksToExecute.contains("watch")) {
+			return null;
+		}
+
+		return externalSystemExecuteTaskTask.getExternalProjectPath();
+	}
+
+	public LiferayWatchTaskService(@NotNull Project project) {
+		_project = project;
+
+		ExternalSystemProcessingManager externalSystemProcessingManager = ServiceManager.getService(
+			ExternalSystemProcessingManager.class);
+
+		List<ExternalSystemTask> externalSystemTasks = externalSystemProcessingManager.findTasksOfState(
+			GradleConstants.SYSTEM_ID, ExternalSystemTaskState.IN_PROGRESS);
+
+		for (ExternalSystemTask externalSystemTask : externalSystemTasks) {
+			ExternalSystemTaskId externalSystemTaskId = externalSystemTask.getId();
+
+			String watchedProjectPath = getWatchedProjectPath(externalSystemTask);
+
+			if ((watchedProjectPath != null) && (externalSystemTaskId.findProject() == project)) {
+				_watchTasks.put(externalSystemTaskId, watchedProjectPath);
+			}
+		}
+
+		_watchedProjectPaths = _collectWatchedProjectPaths();
+	}
+
+	@Override
+	public void dispose() {
+		_watchTasks.clear();
+
+		_watchedProjectPaths = Collections.emptySet();
+	}
+
+	public boolean isWatching(@Nullable String externalProjectPath) {
+		if (externalProjectPath == null) {
+			return false;
+		}
+
+		return _watchedProjectPaths.contains(externalProjectPath);
+	}
+
+	public void taskEnded(@NotNull ExternalSystemTaskId externalSystemTaskId) {
+		if (_watchTasks.remove(externalSystemTaskId) != null) {
+			_update();
+		}
+	}
+
+	public void taskStarted(@NotNull ExternalSystemTaskId externalSystemTaskId, @NotNull String externalProjectPath) {
+		if (_watchTasks.put(externalSystemTaskId, externalProjectPath) == null) {
+			_update();
+		}
+	}
+
+	private Set<String> _collectWatchedProjectPaths() {
+		return Collections.unmodifiableSet(new HashSet<>(_watchTasks.values()));
+	}
+
+	private synchronized void _update() {
+		Set<String> watchedProjectPaths = _collectWatchedProjectPaths();
+
+		if (watchedProjectPaths.equals(_watchedProjectPaths)) {
+			return;
+		}
+
+		_watchedProjectPaths = watchedProjectPaths;
+
+		Application application = ApplicationManager.getApplication();
+
+		application.invokeLater(
+			() -> {
+				ProjectView projectView = ProjectView.getInstance(_project);
+
+				projectView.refresh();
+			},
+			_project.getDisposed());
+	}
+
+	private final Project _project;
+	private volatile Set<String> _watchedProjectPaths;
+	private final Map<ExternalSystemTaskId, String> _watchTasks = new ConcurrentHashMap<>();
+
+}
\ No newline at end of file
@@ -0,0 +1,204 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.core;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.util.messages.MessageBus;
+import com.intellij.util.messages.MessageBusConnection;
+
+import com.liferay.ide.idea.util.LiferayWorkspaceSupport;
+
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.idea.maven.model.MavenPlugin;
+import org.jetbrains.idea.maven.project.MavenImportListener;
+import org.jetbrains.idea.maven.project.MavenProject;
+import org.jetbrains.idea.maven.project.MavenProjectsManager;
+
+/**
+ * Remembers which kind of Liferay workspace the project is until one of the workspace build files changes.
+ *
+ * @author Simon Jiang
+ * @author Gregory Amerson
+ */
+public class LiferayWorkspaceDetectionService implements Disposable {
+
+	public static LiferayWorkspaceDetectionService getInstance(@NotNull Project project) {
+		return ServiceManager.getService(project, LiferayWorkspaceDetectionService.class);
+	}
+
+	public LiferayWorkspaceDetectionService(@NotNull Project project) {
+		_project = project;
+
+		MessageBus messageBus = project.getMessageBus();
+
+		MessageBusConnection messageBusConnection = messageBus.connect(this);
+
+		messageBusConnection.subscribe(
+			VirtualFileManager.VFS_CHANGES,
+			new BulkFileListener() {
+
+				@Override
+				public void after(@NotNull List<? extends VFileEvent> events) {
+					for (VFileEvent event : events) {
+						if (_isWorkspaceFile(event.getPath())) {
+							invalidate();
+
+							return;
+						}
+					}
+				}
+
+			});
+
+		messageBusConnection.subscribe(MavenImportListener.TOPIC, (projects, modules) -> invalidate());
+	}
+
+	@Override
+	public void dispose() {
+		invalidate();
+	}
+
+	@NotNull
+	public Kind getKind() {
+		Kind kind = _kind;
+
+		if (kind == null) {
+			kind = _detectKind();
+
+			_kind = kind;
+		}
+
+		return kind;
+	}
+
+	public void invalidate() {
+		_kind = null;
+	}
+
+	public boolean isGradleWorkspace() {
+		if (getKind() == Kind.GRADLE) {
+			return true;
+		}
+
+		return false;
+	}
+
+	public boolean isMavenWorkspace() {
+		if (getKind() == Kind.MAVEN) {
+			return true;
+		}
+
+		return false;
+	}
+
+	public boolean isWorkspace() {
+		if (getKind() != Kind.NONE) {
+			return true;
+		}
+
+		return false;
+	}
+
+	public enum Kind {
+
+		GRADLE, MAVEN, NONE
+
+	}
+
+	@NotNull
+	private Kind _detectKind() {
+		if (_project.isDisposed()) {
+			return Kind.NONE;
+		}
+
+		if (LiferayWorkspaceSupport.isValidGradleWorkspaceLocation(_project.getBasePath())) {
+			return Kind.GRADLE;
+		}
+
+		if (_isMavenWorkspace()) {
+			return Kind.MAVEN;
+		}
+
+		return Kind.NONE;
+	}
+
+	private boolean _isMavenWorkspace() {
+		try {
+			MavenProjectsManager mavenProjectsManager = MavenProjectsManager.getInstance(_project);
+
+			if (!mavenProjectsManager.isMavenizedProject()) {
+				return false;
+			}
+
+			VirtualFile workspaceVirtualFile = LiferayWorkspaceSupport.getWorkspaceVirtualFile(_project);
+
+			if (workspaceVirtualFile == null) {
+				return false;
+			}
+
+			MavenProject mavenWorkspaceProject = mavenProjectsManager.findContainingProject(workspaceVirtualFile);
+
+			if (mavenWorkspaceProject == null) {
+				return false;
+			}
+
+			MavenPlugin liferayWorkspacePlugin = mavenWorkspaceProject.findPlugin(
+				"com.liferay", "com.liferay.portal.tools.bundle.support");
+
+			if (liferayWorkspacePlugin != null) {
+				return true;
+			}
+		}
+		catch (Exception e) {
+			return false;
+		}
+
+		return false;
+	}
+
+	private boolean _isWorkspaceFile(@Nullable String path) {
+		String basePath = _project.getBasePath();
+
+		if ((path == null) || (basePath == null)) {
+			return false;
+		}
+
+		for (String fileName : _WORKSPACE_FILE_NAMES) {
+			if (path.equals(basePath + "/" + fileName)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static final String[] _WORKSPACE_FILE_NAMES = {
+		LiferayWorkspaceSupport.BUILD_GRADLE_FILE_NAME, LiferayWorkspaceSupport.GRADLE_PROPERTIES_FILE_NAME, "pom.xml",
+		LiferayWorkspaceSupport.SETTINGS_GRADLE_FILE_NAME
+	};
+
+	private volatile Kind _kind;
+	private final Project _project;
+
+}
\ No newline at end of file
@@ -0,0 +1,180 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.core;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleManager;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ModuleRootManager;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VfsUtilCore;
+
+import com.liferay.ide.idea.util.LiferayWorkspaceSupport;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Refreshes only the workspace files the plugin reads, skipping the bundles directory, build output and every
+ * excluded folder instead of refreshing the whole workspace tree.
+ *
+ * @author Simon Jiang
+ */
+public class LiferayWorkspaceRefreshTask extends Task.Backgroundable implements LiferayWorkspaceSupport {
+
+	public LiferayWorkspaceRefreshTask(@NotNull Project project, @NotNull String workspacePath) {
+		super(project, "Refreshing Liferay Workspace", true);
+
+		_workspacePath = workspacePath;
+	}
+
+	@Override
+	public void run(@NotNull ProgressIndicator progressIndicator) {
+		Path workspacePath = Paths.get(_workspacePath);
+
+		Set<Path> skippedPaths = _getSkippedPaths(workspacePath);
+
+		List<File> files = new ArrayList<>();
+		List<File> directories = new ArrayList<>();
+
+		progressIndicator.setIndeterminate(true);
+
+		try {
+			Files.walkFileTree(
+				workspacePath,
+				new SimpleFileVisitor<Path>() {
+
+					@Override
+					public FileVisitResult preVisitDirectory(Path path, BasicFileAttributes basicFileAttributes) {
+						progressIndicator.checkCanceled();
+
+						if (path.equals(workspacePath)) {
+							return FileVisitResult.CONTINUE;
+						}
+
+						Path fileName = path.getFileName();
+
+						String name = fileName.toString();
+
+						if (skippedPaths.contains(path) || name.startsWith(".") ||
+							_SKIPPED_DIRECTORY_NAMES.contains(name)) {
+
+							return FileVisitResult.SKIP_SUBTREE;
+						}
+
+						if (name.equals("configs") && workspacePath.equals(path.getParent())) {
+							directories.add(path.toFile());
+
+							return FileVisitResult.SKIP_SUBTREE;
+						}
+
+						progressIndicator.setText2(name);
+
+						return FileVisitResult.CONTINUE;
+					}
+
+					@Override
+					public FileVisitResult visitFile(Path path, BasicFileAttributes basicFileAttributes) {
+						Path fileName = path.getFileName();
+
+						if (_REFRESHED_FILE_NAMES.contains(fileName.toString())) {
+							files.add(path.toFile());
+						}
+
+						return FileVisitResult.CONTINUE;
+					}
+
+					@Override
+					public FileVisitResult visitFileFailed(Path path, IOException ioe) {
+						return FileVisitResult.CONTINUE;
+					}
+
+				});
+		}
+		catch (IOException ioe) {
+			_log.warn("Unable to scan Liferay workspace " + _workspacePath, ioe);
+		}
+
+		progressIndicator.checkCanceled();
+
+		LocalFileSystem localFileSystem = LocalFileSystem.getInstance();
+
+		progressIndicator.setText2("");
+
+		localFileSystem.refreshIoFiles(files, false, false, null);
+		localFileSystem.refreshIoFiles(directories, false, true, null);
+	}
+
+	@NotNull
+	private Set<Path> _getSkippedPaths(@NotNull Path workspacePath) {
+		Set<Path> skippedPaths = new HashSet<>();
+
+		skippedPaths.add(workspacePath.resolve(getHomeDir(_workspacePath)));
+
+		Project project = getProject();
+
+		ReadAction.run(
+			() -> {
+				if (project.isDisposed()) {
+					return;
+				}
+
+				ModuleManager moduleManager = ModuleManager.getInstance(project);
+
+				for (Module module : moduleManager.getModules()) {
+					ModuleRootManager moduleRootManager = ModuleRootManager.getInstance(module);
+
+					for (String excludeRootUrl : moduleRootManager.getExcludeRootUrls()) {
+						skippedPaths.add(Paths.get(VfsUtilCore.urlToPath(excludeRootUrl)));
+					}
+				}
+			});
+
+		return skippedPaths;
+	}
+
+	private static final Set<String> _REFRESHED_FILE_NAMES = new HashSet<>(
+		Arrays.asList(
+			"bnd.bnd", LiferayWorkspaceSupport.BUILD_GRADLE_FILE_NAME,
+			LiferayWorkspaceSupport.GRADLE_PROPERTIES_FILE_NAME, "pom.xml", "service.xml",
+			LiferayWorkspaceSupport.SETTINGS_GRADLE_FILE_NAME));
+
+	private static final Set<String> _SKIPPED_DIRECTORY_NAMES = new HashSet<>(
+		Arrays.asList("build", "classes", "dist", "node_modules", "target"));
+
+	private static final Logger _log = Logger.getInstance(LiferayWorkspaceRefreshTask.class);
+
+	private final String _workspacePath;
+
+}
\ No newline at end of file
@@ -26,6 +26,7 @@ import com.intellij.openapi.project.DumbService;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.roots.ModuleRootEvent;
 import com.intellij.openapi.roots.ModuleRootListener;
+import com.intellij.openapi.util.Key;
 import com.intellij.openapi.vfs.LocalFileSystem;
 import com.intellij.openapi.vfs.VfsUtilCore;
 import com.intellij.openapi.vfs.VirtualFile;
@@ -36,18 +37,20 @@ import com.intellij.util.messages.MessageBusConnection;
 import com.intellij.webcore.libraries.ScriptingLibraryManager;
 import com.intellij.webcore.libraries.ScriptingLibraryModel;
 
+import com.liferay.ide.idea.core.LiferayTargetPlatformArtifacts;
+import com.liferay.ide.idea.core.LiferayTargetPlatformArtifactsService;
 import com.liferay.ide.idea.util.IntellijUtil;
-import com.liferay.ide.idea.util.LiferayWorkspaceSupport;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -66,14 +69,16 @@ public class LiferayJSPredefinedLibraryProvider extends JSPredefinedLibraryProvi
 		ScriptingLibraryModel scriptingLibraryModel = ScriptingLibraryModel.createPredefinedLibrary(
 			_LIFERAY_JAVASCRIPT_LIBRARY_NAME, VfsUtilCore.toVirtualFileArray(javascriptFiles), true);
 
-		if (!_moduleRootListenerRegistered) {
-			MessageBus messageBus = project.getMessageBus();
+		synchronized (this) {
+			if (project.getUserData(_MODULE_ROOT_LISTENER_REGISTERED) == null) {
+				MessageBus messageBus = project.getMessageBus();
 
-			MessageBusConnection messageBusConnection = messageBus.connect(project);
+				MessageBusConnection messageBusConnection = messageBus.connect(project);
 
-			messageBusConnection.subscribe(ProjectTopics.PROJECT_ROOTS, this);
+				messageBusConnection.subscribe(ProjectTopics.PROJECT_ROOTS, this);
 
-			_moduleRootListenerRegistered = true;
+				project.putUserData(_MODULE_ROOT_LISTENER_REGISTERED, Boolean.TRUE);
+			}
 		}
 
 		return new ScriptingLibraryModel[] {scriptingLibraryModel};
@@ -124,23 +129,19 @@ public class LiferayJSPredefinedLibraryProvider extends JSPredefinedLibraryProvi
 
 	@NotNull
 	private static Set<VirtualFile> _getJavascriptFiles(@NotNull Project project) {
-		List<LibraryData> targetPlatformArtifacts = _getTargetPlatformArtifacts(project);
-
-		Stream<LibraryData> stream = targetPlatformArtifacts.stream();
-
-		return stream.filter(
-			libraryData -> Objects.equals("com.liferay", libraryData.getGroupId())
-		).filter(
-			libraryData ->
-				Objects.equals("com.liferay.frontend.js.web", libraryData.getArtifactId()) ||
-				Objects.equals("com.liferay.frontend.js.aui.web", libraryData.getArtifactId())
-		).map(
-			LiferayJSPredefinedLibraryProvider::_getJavascriptFilesFromLibraryData
-		).flatMap(
-			javascriptFiles -> javascriptFiles.stream()
-		).collect(
-			Collectors.toCollection(() -> new TreeSet<>(Comparator.comparing(VirtualFile::getUrl)))
-		);
+		LiferayTargetPlatformArtifacts targetPlatformArtifacts = _getTargetPlatformArtifacts(project);
+
+		Set<VirtualFile> javascriptFiles = new TreeSet<>(Comparator.comparing(VirtualFile::getUrl));
+
+		for (String artifactId : _JAVASCRIPT_ARTIFACT_IDS) {
+			LibraryData libraryData = targetPlatformArtifacts.getArtifact("com.liferay", artifactId);
+
+			if (libraryData != null) {
+				javascriptFiles.addAll(_getJavascriptFilesFromLibraryData(libraryData));
+			}
+		}
+
+		return javascriptFiles;
 	}
 
 	@NotNull
@@ -171,43 +172,99 @@ public class LiferayJSPredefinedLibraryProvider extends JSPredefinedLibraryProvi
 	}
 
 	private static Set<VirtualFile> _getJavascriptFilesFromLibraryData(@NotNull LibraryData libraryData) {
-		Set<VirtualFile> virtualFiles = new HashSet<>();
-
 		Set<String> sourcePaths = libraryData.getPaths(LibraryPathType.SOURCE);
 
 		String sourcePath = ContainerUtil.getFirstItem(sourcePaths);
 
-		if (sourcePath != null) {
-			LocalFileSystem localFileSystem = LocalFileSystem.getInstance();
+		if (sourcePath == null) {
+			return Collections.emptySet();
+		}
 
-			VirtualFile rootVirtualFile = localFileSystem.findFileByPath(sourcePath);
+		LocalFileSystem localFileSystem = LocalFileSystem.getInstance();
 
-			if (rootVirtualFile != null) {
-				VirtualFile jarRoot = IntellijUtil.getJarRoot(rootVirtualFile);
+		VirtualFile rootVirtualFile = localFileSystem.findFileByPath(sourcePath);
 
-				if (jarRoot != null) {
-					virtualFiles.addAll(_getJavascriptFilesFromJarRoot(jarRoot));
-				}
-			}
+		if (rootVirtualFile == null) {
+			_javascriptFilesCache.remove(sourcePath);
+
+			return Collections.emptySet();
 		}
 
-		return virtualFiles;
+		long timeStamp = rootVirtualFile.getTimeStamp();
+
+		JavascriptFiles javascriptFiles = _javascriptFilesCache.get(sourcePath);
+
+		if ((javascriptFiles != null) && javascriptFiles.isUpToDate(timeStamp)) {
+			return javascriptFiles.getVirtualFiles();
+		}
+
+		VirtualFile jarRoot = IntellijUtil.getJarRoot(rootVirtualFile);
+
+		if (jarRoot == null) {
+			return Collections.emptySet();
+		}
+
+		javascriptFiles = new JavascriptFiles(timeStamp, _getJavascriptFilesFromJarRoot(jarRoot));
+
+		_javascriptFilesCache.put(sourcePath, javascriptFiles);
+
+		return javascriptFiles.getVirtualFiles();
 	}
 
 	@NotNull
-	private static List<LibraryData> _getTargetPlatformArtifacts(@NotNull Project project) {
+	private static LiferayTargetPlatformArtifacts _getTargetPlatformArtifacts(@NotNull Project project) {
 		Application application = ApplicationManager.getApplication();
 
 		if (application.isUnitTestMode()) {
-			return _targetPlatformArtifacts;
+			return LiferayTargetPlatformArtifacts.of(_targetPlatformArtifacts);
 		}
 
-		return LiferayWorkspaceSupport.getTargetPlatformArtifacts(project);
+		LiferayTargetPlatformArtifactsService liferayTargetPlatformArtifactsService =
+			LiferayTargetPlatformArtifactsService.getInstance(project);
+
+		return liferayTargetPlatformArtifactsService.getTargetPlatformArtifacts();
 	}
 
+	private static final String[] _JAVASCRIPT_ARTIFACT_IDS = {
+		"com.liferay.frontend.js.web", "com.liferay.frontend.js.aui.web"
+	};
+
 	private static final String _LIFERAY_JAVASCRIPT_LIBRARY_NAME = "Liferay JavaScript";
 
-	private static boolean _moduleRootListenerRegistered = false;
+	private static final Key<Boolean> _MODULE_ROOT_LISTENER_REGISTERED = Key.create(
+		"LIFERAY_JS_PREDEFINED_LIBRARY_ROOT_LISTENER_REGISTERED");
+
+	private static final Map<String, JavascriptFiles> _javascriptFilesCache = new ConcurrentHashMap<>();
 	private static List<LibraryData> _targetPlatformArtifacts = new ArrayList<>();
 
+	private static class JavascriptFiles {
+
+		public JavascriptFiles(long timeStamp, Set<VirtualFile> virtualFiles) {
+			_timeStamp = timeStamp;
+			_virtualFiles = Collections.unmodifiableSet(virtualFiles);
+		}
+
+		public Set<VirtualFile> getVirtualFiles() {
+			return _virtualFiles;
+		}
+
+		public boolean isUpToDate(long timeStamp) {
+			if (_timeStamp != timeStamp) {
+				return false;
+			}
+
+			for (VirtualFile virtualFile : _virtualFiles) {
+				if (!virtualFile.isValid()) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		private final long _timeStamp;
+		private final Set<VirtualFile> _virtualFiles;
+
+	}
+
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ import com.intellij.debugger.DebuggerBundle;
 import com.intellij.debugger.NoDataException;
 import com.intellij.debugger.SourcePosition;
 import com.intellij.debugger.engine.DebugProcess;
+import com.intellij.debugger.engine.DebugProcessListener;
 import com.intellij.debugger.engine.JSR45PositionManager;
 import com.intellij.javaee.facet.JavaeeFacet;
 import com.intellij.javaee.facet.JavaeeFacetUtil;
@@ -50,6 +51,21 @@ public class LiferayJspDebuggerPositionManager extends JSR45PositionManager<Java
 		super(
 			debugProcess, JavaeeFacetUtil.getInstance().getAllJavaeeFacets(debugProcess.getProject()), "JSP",
 			_LANGUAGE_FILE_TYPES, new LiferayJspDebuggerSourceFinderAdapter());
+
+		debugProcess.addDebugProcessListener(
+			new DebugProcessListener() {
+
+				@Override
+				public void processDetached(@NotNull DebugProcess process, boolean closedByUser) {
+					LiferayJspDebuggerSourceFinderAdapter sourcesFinder =
+						(LiferayJspDebuggerSourceFinderAdapter)mySourcesFinder;
+
+					process.printToConsole(
+						"Liferay JSP source lookups: " + sourcesFinder.getHitCount() + " cached, " +
+							sourcesFinder.getMissCount() + " resolved\n");
+				}
+
+			});
 	}
 
 	@NotNull
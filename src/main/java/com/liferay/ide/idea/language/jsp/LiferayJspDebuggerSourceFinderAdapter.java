@@ -17,38 +17,27 @@ package com.liferay.ide.idea.language.jsp;
 import com.intellij.debugger.engine.SourcesFinder;
 import com.intellij.javaee.deployment.JspDeploymentManager;
 import com.intellij.javaee.facet.JavaeeFacet;
-import com.intellij.openapi.application.Application;
-import com.intellij.openapi.application.ApplicationManager;
-import com.intellij.openapi.externalSystem.model.project.LibraryData;
-import com.intellij.openapi.externalSystem.model.project.LibraryPathType;
 import com.intellij.openapi.fileTypes.FileNameMatcher;
 import com.intellij.openapi.fileTypes.FileTypeManager;
 import com.intellij.openapi.fileTypes.StdFileTypes;
 import com.intellij.openapi.project.Project;
-import com.intellij.openapi.roots.OrderEnumerator;
-import com.intellij.openapi.roots.OrderRootType;
-import com.intellij.openapi.roots.ProjectRootManager;
-import com.intellij.openapi.vfs.LocalFileSystem;
-import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiFile;
-import com.intellij.psi.PsiManager;
-import com.intellij.util.containers.ContainerUtil;
-
-import com.liferay.ide.idea.util.IntellijUtil;
-import com.liferay.ide.idea.util.LiferayWorkspaceSupport;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
+ * Remembers the source files found for each relative path for as long as its debug session lasts, until the project
+ * roots change.
+ *
  * @author Dominik Marks
  */
 public class LiferayJspDebuggerSourceFinderAdapter implements SourcesFinder<JavaeeFacet[]> {
@@ -66,92 +55,62 @@ public class LiferayJspDebuggerSourceFinderAdapter implements SourcesFinder<Java
 
 	@NotNull
 	public List<PsiFile> findSourceFiles(String relPath, Project project, JavaeeFacet[] scope) {
-		if (_isJava(relPath)) {
-			return Collections.emptyList();
-		}
+		LiferayJspLibraryIndex liferayJspLibraryIndex = LiferayJspLibraryIndex.getInstance(project);
 
-		List<PsiFile> sourceFiles = new ArrayList<>();
+		long modificationCount = liferayJspLibraryIndex.getModificationCount();
 
-		JspDeploymentManager jspDeploymentManager = JspDeploymentManager.getInstance();
-
-		PsiFile deployedJspSourceFromFacets = jspDeploymentManager.getDeployedJspSource(relPath, project, scope);
+		if (modificationCount != _modificationCount) {
+			_sourceFilesMap.clear();
 
-		if (deployedJspSourceFromFacets != null) {
-			sourceFiles.add(deployedJspSourceFromFacets);
+			_modificationCount = modificationCount;
 		}
 
-		ProjectRootManager projectRootManager = ProjectRootManager.getInstance(project);
+		List<PsiFile> sourceFiles = _sourceFilesMap.get(relPath);
 
-		OrderEnumerator orderEntries = projectRootManager.orderEntries();
+		if ((sourceFiles != null) && _isValid(sourceFiles)) {
+			_hitCount.incrementAndGet();
 
-		orderEntries.forEachLibrary(
-			library -> {
-				VirtualFile[] virtualFiles = library.getFiles(OrderRootType.CLASSES);
-
-				for (VirtualFile virtualFile : virtualFiles) {
-					_addJspFiles(relPath, project, sourceFiles, IntellijUtil.getJarRoot(virtualFile));
-				}
+			return sourceFiles;
+		}
 
-				return true;
-			});
+		_missCount.incrementAndGet();
 
-		List<LibraryData> targetPlatformArtifacts = _getTargetPlatformArtifacts(project);
+		sourceFiles = Collections.unmodifiableList(_findSourceFiles(relPath, project, scope, liferayJspLibraryIndex));
 
-		targetPlatformArtifacts.stream(
-		).map(
-			libraryData -> {
-				Set<String> sourcePaths = libraryData.getPaths(LibraryPathType.SOURCE);
+		_sourceFilesMap.put(relPath, sourceFiles);
 
-				return ContainerUtil.getFirstItem(sourcePaths);
-			}
-		).filter(
-			Objects::nonNull
-		).map(
-			sourcePath -> {
-				LocalFileSystem localFileSystem = LocalFileSystem.getInstance();
+		return sourceFiles;
+	}
 
-				return localFileSystem.findFileByPath(sourcePath);
-			}
-		).filter(
-			Objects::nonNull
-		).forEach(
-			rootVirtualFile -> _addJspFiles(relPath, project, sourceFiles, IntellijUtil.getJarRoot(rootVirtualFile))
-		);
+	public long getHitCount() {
+		return _hitCount.get();
+	}
 
-		return sourceFiles;
+	public long getMissCount() {
+		return _missCount.get();
 	}
 
 	@NotNull
-	private static List<LibraryData> _getTargetPlatformArtifacts(@NotNull Project project) {
-		Application application = ApplicationManager.getApplication();
+	private List<PsiFile> _findSourceFiles(
+		String relPath, Project project, JavaeeFacet[] scope, LiferayJspLibraryIndex liferayJspLibraryIndex) {
 
-		if (application.isUnitTestMode()) {
-			return _targetPlatformArtifacts;
+		if (_isJava(relPath)) {
+			return Collections.emptyList();
 		}
 
-		return LiferayWorkspaceSupport.getTargetPlatformArtifacts(project);
-	}
+		List<PsiFile> sourceFiles = new ArrayList<>();
 
-	private void _addJspFiles(String relPath, Project project, Collection<PsiFile> psiFiles, VirtualFile jarRoot) {
-		PsiManager psiManager = PsiManager.getInstance(project);
+		JspDeploymentManager jspDeploymentManager = JspDeploymentManager.getInstance();
 
-		Optional.ofNullable(
-			jarRoot
-		).map(
-			virtualFile -> IntellijUtil.getChild(virtualFile, "META-INF/resources")
-		).filter(
-			Objects::nonNull
-		).map(
-			child -> IntellijUtil.getChild(child, relPath)
-		).filter(
-			Objects::nonNull
-		).map(
-			psiManager::findFile
-		).filter(
-			Objects::nonNull
-		).ifPresent(
-			psiFiles::add
-		);
+		PsiFile deployedJspSourceFromFacets = jspDeploymentManager.getDeployedJspSource(relPath, project, scope);
+
+		if (deployedJspSourceFromFacets != null) {
+			sourceFiles.add(deployedJspSourceFromFacets);
+		}
+
+		sourceFiles.addAll(liferayJspLibraryIndex.getJspFiles(relPath));
+
+		return sourceFiles;
 	}
 
 	private boolean _isJava(String relPath) {
@@ -167,6 +126,19 @@ public class LiferayJspDebuggerSourceFinderAdapter implements SourcesFinder<Java
 		return fileNameMatcher.isPresent();
 	}
 
-	private static List<LibraryData> _targetPlatformArtifacts = new ArrayList<>();
+	private boolean _isValid(List<PsiFile> psiFiles) {
+		for (PsiFile psiFile : psiFiles) {
+			if (!psiFile.isValid()) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private final AtomicLong _hitCount = new AtomicLong();
+	private final AtomicLong _missCount = new AtomicLong();
+	private volatile long _modificationCount = -1;
+	private final Map<String, List<PsiFile>> _sourceFilesMap = new ConcurrentHashMap<>();
 
 }
\ No newline at end of file
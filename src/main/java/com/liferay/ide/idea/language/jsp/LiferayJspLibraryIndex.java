@@ -0,0 +1,266 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.language.jsp;
+
+import com.intellij.ProjectTopics;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.Application;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.externalSystem.model.project.LibraryData;
+import com.intellij.openapi.externalSystem.model.project.LibraryPathType;
+import com.intellij.openapi.fileTypes.FileType;
+import com.intellij.openapi.fileTypes.StdFileTypes;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ModuleRootEvent;
+import com.intellij.openapi.roots.ModuleRootListener;
+import com.intellij.openapi.roots.OrderEnumerator;
+import com.intellij.openapi.roots.OrderRootType;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileVisitor;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.util.containers.ContainerUtil;
+import com.intellij.util.messages.MessageBus;
+import com.intellij.util.messages.MessageBusConnection;
+
+import com.liferay.ide.idea.core.LiferayTargetPlatformArtifacts;
+import com.liferay.ide.idea.core.LiferayTargetPlatformArtifactsService;
+import com.liferay.ide.idea.util.IntellijUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Maps paths relative to META-INF/resources to the JSP files inside library and target platform source jars. The
+ * jars are walked once on first use and again only after the project roots change.
+ *
+ * @author Dominik Marks
+ */
+public class LiferayJspLibraryIndex implements Disposable {
+
+	public static LiferayJspLibraryIndex getInstance(@NotNull Project project) {
+		return ServiceManager.getService(project, LiferayJspLibraryIndex.class);
+	}
+
+	public LiferayJspLibraryIndex(@NotNull Project project) {
+		_project = project;
+
+		MessageBus messageBus = project.getMessageBus();
+
+		MessageBusConnection messageBusConnection = messageBus.connect(this);
+
+		messageBusConnection.subscribe(
+			ProjectTopics.PROJECT_ROOTS,
+			new ModuleRootListener() {
+
+				@Override
+				public void rootsChanged(@NotNull ModuleRootEvent event) {
+					invalidate();
+				}
+
+			});
+	}
+
+	@Override
+	public void dispose() {
+		invalidate();
+	}
+
+	@NotNull
+	public List<PsiFile> getJspFiles(@NotNull String relPath) {
+		List<VirtualFile> virtualFiles = _getJspFilesMap().get(relPath);
+
+		if (virtualFiles == null) {
+			return Collections.emptyList();
+		}
+
+		PsiManager psiManager = PsiManager.getInstance(_project);
+
+		List<PsiFile> psiFiles = new ArrayList<>();
+
+		for (VirtualFile virtualFile : virtualFiles) {
+			if (!virtualFile.isValid()) {
+				continue;
+			}
+
+			PsiFile psiFile = psiManager.findFile(virtualFile);
+
+			if (psiFile != null) {
+				psiFiles.add(psiFile);
+			}
+		}
+
+		return psiFiles;
+	}
+
+	public long getModificationCount() {
+		return _modificationCount.get();
+	}
+
+	public void invalidate() {
+		_modificationCount.incrementAndGet();
+
+		_jspFilesMap = null;
+	}
+
+	@NotNull
+	private static List<LibraryData> _getTargetPlatformArtifacts(@NotNull Project project) {
+		Application application = ApplicationManager.getApplication();
+
+		if (application.isUnitTestMode()) {
+			return _targetPlatformArtifacts;
+		}
+
+		LiferayTargetPlatformArtifactsService liferayTargetPlatformArtifactsService =
+			LiferayTargetPlatformArtifactsService.getInstance(project);
+
+		LiferayTargetPlatformArtifacts liferayTargetPlatformArtifacts =
+			liferayTargetPlatformArtifactsService.getTargetPlatformArtifacts();
+
+		return liferayTargetPlatformArtifacts.getArtifacts();
+	}
+
+	private static boolean _isJsp(@NotNull VirtualFile virtualFile) {
+		FileType fileType = virtualFile.getFileType();
+
+		if ((fileType == StdFileTypes.JSP) || (fileType == StdFileTypes.JSPX)) {
+			return true;
+		}
+
+		return false;
+	}
+
+	@NotNull
+	private Map<String, List<VirtualFile>> _buildJspFilesMap() {
+		Set<VirtualFile> jarRoots = new LinkedHashSet<>();
+
+		ProjectRootManager projectRootManager = ProjectRootManager.getInstance(_project);
+
+		OrderEnumerator orderEntries = projectRootManager.orderEntries();
+
+		orderEntries.forEachLibrary(
+			library -> {
+				for (VirtualFile virtualFile : library.getFiles(OrderRootType.CLASSES)) {
+					VirtualFile jarRoot = IntellijUtil.getJarRoot(virtualFile);
+
+					if (jarRoot != null) {
+						jarRoots.add(jarRoot);
+					}
+				}
+
+				return true;
+			});
+
+		LocalFileSystem localFileSystem = LocalFileSystem.getInstance();
+
+		for (LibraryData libraryData : _getTargetPlatformArtifacts(_project)) {
+			String sourcePath = ContainerUtil.getFirstItem(libraryData.getPaths(LibraryPathType.SOURCE));
+
+			if (sourcePath == null) {
+				continue;
+			}
+
+			VirtualFile sourceVirtualFile = localFileSystem.findFileByPath(sourcePath);
+
+			if (sourceVirtualFile == null) {
+				continue;
+			}
+
+			VirtualFile jarRoot = IntellijUtil.getJarRoot(sourceVirtualFile);
+
+			if (jarRoot != null) {
+				jarRoots.add(jarRoot);
+			}
+		}
+
+		Map<String, List<VirtualFile>> jspFilesMap = new HashMap<>();
+
+		for (VirtualFile jarRoot : jarRoots) {
+			VirtualFile resourcesVirtualFile = jarRoot.findFileByRelativePath("META-INF/resources");
+
+			if (resourcesVirtualFile == null) {
+				continue;
+			}
+
+			VfsUtilCore.visitChildrenRecursively(
+				resourcesVirtualFile,
+				new VirtualFileVisitor<Void>() {
+
+					@Override
+					public boolean visitFile(@NotNull VirtualFile virtualFile) {
+						if (!virtualFile.isDirectory() && _isJsp(virtualFile)) {
+							String relPath = VfsUtilCore.getRelativePath(virtualFile, resourcesVirtualFile);
+
+							if (relPath != null) {
+								List<VirtualFile> virtualFiles = jspFilesMap.computeIfAbsent(
+									relPath, key -> new ArrayList<>());
+
+								virtualFiles.add(virtualFile);
+							}
+						}
+
+						return true;
+					}
+
+				});
+		}
+
+		return jspFilesMap;
+	}
+
+	@NotNull
+	private Map<String, List<VirtualFile>> _getJspFilesMap() {
+		Map<String, List<VirtualFile>> jspFilesMap = _jspFilesMap;
+
+		if (jspFilesMap != null) {
+			return jspFilesMap;
+		}
+
+		synchronized (this) {
+			jspFilesMap = _jspFilesMap;
+
+			if (jspFilesMap == null) {
+				long modificationCount = _modificationCount.get();
+
+				jspFilesMap = _buildJspFilesMap();
+
+				if (modificationCount == _modificationCount.get()) {
+					_jspFilesMap = jspFilesMap;
+				}
+			}
+
+			return jspFilesMap;
+		}
+	}
+
+	private static List<LibraryData> _targetPlatformArtifacts = new ArrayList<>();
+
+	private volatile Map<String, List<VirtualFile>> _jspFilesMap;
+	private final AtomicLong _modificationCount = new AtomicLong();
+	private final Project _project;
+
+}
\ No newline at end of file
@@ -0,0 +1,306 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.language.osgi;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.Application;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.externalSystem.model.project.LibraryData;
+import com.intellij.openapi.externalSystem.model.project.LibraryPathType;
+import com.intellij.openapi.externalSystem.service.project.manage.ProjectDataImportListener;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.util.messages.MessageBus;
+import com.intellij.util.messages.MessageBusConnection;
+
+import com.liferay.ide.idea.core.LiferayTargetPlatformArtifacts;
+import com.liferay.ide.idea.core.LiferayTargetPlatformArtifactsService;
+import com.liferay.ide.idea.util.LiferayWorkspaceSupport;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Indexes the component properties declared by the target platform jars once per target platform version and set of
+ * jars. The index is kept in the IDE system directory, so every project using the same target platform shares it.
+ *
+ * @author Dominik Marks
+ */
+public class ComponentPropertiesIndexService implements Disposable, LiferayWorkspaceSupport {
+
+	public static ComponentPropertiesIndexService getInstance(@NotNull Project project) {
+		return ServiceManager.getService(project, ComponentPropertiesIndexService.class);
+	}
+
+	public ComponentPropertiesIndexService(@NotNull Project project) {
+		_project = project;
+
+		MessageBus messageBus = project.getMessageBus();
+
+		MessageBusConnection messageBusConnection = messageBus.connect(this);
+
+		messageBusConnection.subscribe(
+			ProjectDataImportListener.TOPIC,
+			projectPath -> {
+				_attemptedIndexPath = null;
+				_indexFileName = null;
+
+				indexAsync();
+			});
+	}
+
+	@Override
+	public void dispose() {
+		_attemptedIndexPath = null;
+		_indexFileName = null;
+	}
+
+	/**
+	 * Never starts indexing itself, so completion does not rescan the target platform when the last attempt could
+	 * not index every jar.
+	 *
+	 * @return the indexed component properties of the current target platform, or <code>null</code> if the target
+	 *         platform has not been indexed yet
+	 */
+	@Nullable
+	public ComponentPropertiesRegistry getComponentPropertiesRegistry() {
+		Path indexPath = _getIndexPath();
+
+		if ((indexPath == null) || Files.notExists(indexPath)) {
+			return null;
+		}
+
+		return ComponentPropertiesRegistry.getInstance(indexPath);
+	}
+
+	/**
+	 * Indexes the current target platform artifacts unless they are indexed already or have been tried since the last
+	 * sync. Called once on startup and after every sync.
+	 */
+	public void indexAsync() {
+		if (_project.isDisposed() || !LiferayWorkspaceSupport.isValidGradleWorkspaceProject(_project)) {
+			return;
+		}
+
+		if (!_indexing.compareAndSet(false, true)) {
+			_indexRequested.set(true);
+
+			return;
+		}
+
+		Application application = ApplicationManager.getApplication();
+
+		application.invokeLater(
+			() -> {
+				if (_project.isDisposed()) {
+					_indexing.set(false);
+
+					return;
+				}
+
+				ProgressManager progressManager = ProgressManager.getInstance();
+
+				progressManager.run(
+					new Task.Backgroundable(_project, "Indexing Liferay Component Properties", true) {
+
+						@Override
+						public void onFinished() {
+							_indexing.set(false);
+
+							if (_indexRequested.getAndSet(false)) {
+								indexAsync();
+							}
+						}
+
+						@Override
+						public void run(@NotNull ProgressIndicator progressIndicator) {
+							Path indexPath = _getIndexPath();
+
+							if ((indexPath == null) || indexPath.equals(_attemptedIndexPath) ||
+								Files.exists(indexPath)) {
+
+								return;
+							}
+
+							_attemptedIndexPath = indexPath;
+
+							_index(indexPath, progressIndicator);
+						}
+
+					});
+			});
+	}
+
+	/**
+	 * @return the version of the target platform followed by a hash of the paths of its jars, or an empty string if
+	 *         there is no target platform to index
+	 */
+	@NotNull
+	private String _computeIndexFileName() {
+		String targetPlatformVersion = getTargetPlatformVersion(_project);
+
+		if (targetPlatformVersion == null) {
+			return "";
+		}
+
+		LiferayTargetPlatformArtifactsService liferayTargetPlatformArtifactsService =
+			LiferayTargetPlatformArtifactsService.getInstance(_project);
+
+		LiferayTargetPlatformArtifacts liferayTargetPlatformArtifacts =
+			liferayTargetPlatformArtifactsService.getTargetPlatformArtifacts();
+
+		List<LibraryData> libraryDatas = liferayTargetPlatformArtifacts.getArtifacts();
+
+		if (libraryDatas.isEmpty()) {
+			return "";
+		}
+
+		try {
+			MessageDigest messageDigest = MessageDigest.getInstance("SHA-1");
+
+			for (LibraryData libraryData : libraryDatas) {
+				for (String binaryPath : new TreeSet<>(libraryData.getPaths(LibraryPathType.BINARY))) {
+					messageDigest.update(binaryPath.getBytes(StandardCharsets.UTF_8));
+					messageDigest.update((byte)'\n');
+				}
+			}
+
+			String indexFileName = targetPlatformVersion + "-" + StringUtil.toHexString(messageDigest.digest());
+
+			return indexFileName.replaceAll("[^\\w.\\-]", "_") + ".txt";
+		}
+		catch (NoSuchAlgorithmException nsae) {
+			_log.warn("Unable to hash the target platform artifacts", nsae);
+
+			return "";
+		}
+	}
+
+	@Nullable
+	private Path _getIndexPath() {
+		String indexFileName = _indexFileName;
+
+		if (indexFileName == null) {
+			indexFileName = _computeIndexFileName();
+
+			_indexFileName = indexFileName;
+		}
+
+		if (indexFileName.isEmpty()) {
+			return null;
+		}
+
+		return Paths.get(PathManager.getSystemPath(), "liferay", "component-properties", indexFileName);
+	}
+
+	private void _index(@NotNull Path indexPath, @NotNull ProgressIndicator progressIndicator) {
+		LiferayTargetPlatformArtifactsService liferayTargetPlatformArtifactsService =
+			LiferayTargetPlatformArtifactsService.getInstance(_project);
+
+		LiferayTargetPlatformArtifacts liferayTargetPlatformArtifacts =
+			liferayTargetPlatformArtifactsService.getTargetPlatformArtifacts();
+
+		List<LibraryData> libraryDatas = liferayTargetPlatformArtifacts.getArtifacts();
+
+		if (libraryDatas.isEmpty()) {
+			return;
+		}
+
+		try {
+			ComponentPropertiesScanner componentPropertiesScanner = new ComponentPropertiesScanner();
+
+			progressIndicator.setIndeterminate(false);
+
+			boolean complete = true;
+
+			for (int i = 0; i < libraryDatas.size(); i++) {
+				progressIndicator.checkCanceled();
+
+				LibraryData libraryData = libraryDatas.get(i);
+
+				progressIndicator.setFraction((double)i / libraryDatas.size());
+				progressIndicator.setText2(libraryData.getArtifactId());
+
+				Set<String> binaryPaths = libraryData.getPaths(LibraryPathType.BINARY);
+
+				for (String binaryPath : binaryPaths) {
+					File binaryFile = new File(binaryPath);
+
+					if (!binaryFile.isFile()) {
+						_log.info("Unable to scan " + binaryPath + " because it has not been downloaded yet");
+
+						complete = false;
+
+						continue;
+					}
+
+					try {
+						componentPropertiesScanner.scan(binaryFile);
+					}
+					catch (IOException ioe) {
+						_log.warn("Unable to scan " + binaryPath, ioe);
+
+						complete = false;
+					}
+				}
+			}
+
+			// An incomplete index would be reused as is for these artifacts, so leave it unwritten and let the next
+			// sync try again
+
+			if (!complete) {
+				return;
+			}
+
+			componentPropertiesScanner.write(indexPath);
+		}
+		catch (IOException | ParserConfigurationException e) {
+			_log.warn("Unable to index component properties of target platform", e);
+		}
+	}
+
+	private static final Logger _log = Logger.getInstance(ComponentPropertiesIndexService.class);
+
+	private volatile Path _attemptedIndexPath;
+	private volatile String _indexFileName;
+	private final AtomicBoolean _indexing = new AtomicBoolean();
+	private final AtomicBoolean _indexRequested = new AtomicBoolean();
+	private final Project _project;
+
+}
\ No newline at end of file
@@ -0,0 +1,322 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.language.osgi;
+
+import com.intellij.codeInsight.lookup.LookupElementBuilder;
+import com.intellij.openapi.diagnostic.Logger;
+
+import icons.LiferayIcons;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Component property lookups per service class, read from definitions/osgi or from a target platform index the first
+ * time completion asks for them. Every list is sorted by lookup string and shared between completions, and lookups
+ * with the same name and type are shared between service classes.
+ *
+ * @author Dominik Marks
+ */
+public class ComponentPropertiesRegistry {
+
+	@NotNull
+	public static ComponentPropertiesRegistry getInstance(@Nullable String liferayVersion) {
+		String key = (liferayVersion == null) ? "" : liferayVersion;
+
+		return _versionRegistries.computeIfAbsent(
+			key,
+			version -> _resourceRegistries.computeIfAbsent(
+				_getResourceName(version),
+				resourceName -> {
+					ClassLoader classLoader = ComponentPropertiesRegistry.class.getClassLoader();
+
+					return new ComponentPropertiesRegistry(
+						resourceName, 0, _load(resourceName, classLoader.getResourceAsStream(resourceName)));
+				}));
+	}
+
+	/**
+	 * Returns the registry of an index file written by {@link ComponentPropertiesScanner}, shared by every project
+	 * using it and reloaded only after the file has been rewritten.
+	 */
+	@NotNull
+	public static ComponentPropertiesRegistry getInstance(@NotNull Path path) {
+		File file = path.toFile();
+
+		return _fileRegistries.compute(
+			file.getPath(),
+			(key, componentPropertiesRegistry) -> {
+				long lastModified = file.lastModified();
+
+				if ((componentPropertiesRegistry != null) &&
+					(componentPropertiesRegistry._lastModified == lastModified)) {
+
+					return componentPropertiesRegistry;
+				}
+
+				Map<String, List<LookupElementBuilder>> lookupElements;
+
+				try {
+					lookupElements = _load(key, Files.newInputStream(path));
+				}
+				catch (IOException ioe) {
+					_log.warn("Unable to read component properties " + key, ioe);
+
+					lookupElements = Collections.emptyMap();
+				}
+
+				return new ComponentPropertiesRegistry(key, lastModified, lookupElements);
+			});
+	}
+
+	/**
+	 * Merges two lists sorted by lookup string into a new sorted list, keeping the first element for every lookup
+	 * string. Returns one of the lists unchanged if the other one is empty.
+	 */
+	@NotNull
+	public static List<LookupElementBuilder> merge(
+		@NotNull List<LookupElementBuilder> sortedLookupElements,
+		@NotNull List<LookupElementBuilder> otherLookupElements) {
+
+		if (otherLookupElements.isEmpty()) {
+			return sortedLookupElements;
+		}
+
+		if (sortedLookupElements.isEmpty()) {
+			return otherLookupElements;
+		}
+
+		return _merge(sortedLookupElements, otherLookupElements);
+	}
+
+	private ComponentPropertiesRegistry(
+		@NotNull String name, long lastModified, @NotNull Map<String, List<LookupElementBuilder>> lookupElements) {
+
+		_name = name;
+		_lastModified = lastModified;
+		_lookupElements = lookupElements;
+	}
+
+	@NotNull
+	public List<LookupElementBuilder> getLookupElements(@NotNull Collection<String> serviceClassNames) {
+		List<LookupElementBuilder> result = Collections.emptyList();
+
+		for (String serviceClassName : serviceClassNames) {
+			result = merge(result, getLookupElements(serviceClassName));
+		}
+
+		return result;
+	}
+
+	@NotNull
+	public List<LookupElementBuilder> getLookupElements(@NotNull String serviceClassName) {
+		return _lookupElements.getOrDefault(serviceClassName, Collections.emptyList());
+	}
+
+	@NotNull
+	public String getName() {
+		return _name;
+	}
+
+	@Nullable
+	private static LookupElementBuilder _createLookupElement(@NotNull String line) {
+		int index = line.indexOf('=');
+
+		if (index <= 0) {
+			return null;
+		}
+
+		LookupElementBuilder lookupElementBuilder = LookupElementBuilder.create(line.substring(0, index));
+
+		lookupElementBuilder = lookupElementBuilder.withTypeText(line.substring(index + 1));
+		lookupElementBuilder = lookupElementBuilder.withIcon(LiferayIcons.LIFERAY_ICON);
+
+		return lookupElementBuilder;
+	}
+
+	@NotNull
+	private static String _getResourceName(@NotNull String liferayVersion) {
+		String[] segments = liferayVersion.split("\\.");
+
+		if (segments.length < 2) {
+			return _DEFAULT_RESOURCE_NAME;
+		}
+
+		String resourceName = _RESOURCE_NAME_PREFIX + "_" + segments[0] + "_" + segments[1] + ".txt";
+
+		ClassLoader classLoader = ComponentPropertiesRegistry.class.getClassLoader();
+
+		if (classLoader.getResource(resourceName) == null) {
+			return _DEFAULT_RESOURCE_NAME;
+		}
+
+		return resourceName;
+	}
+
+	@NotNull
+	private static Map<String, List<LookupElementBuilder>> _load(
+		@NotNull String name, @Nullable InputStream inputStream) {
+
+		Map<String, List<LookupElementBuilder>> lookupElementsMap = new HashMap<>();
+
+		if (inputStream == null) {
+			_log.warn("Unable to find component properties " + name);
+
+			return lookupElementsMap;
+		}
+
+		Map<String, LookupElementBuilder> sharedLookupElements = new HashMap<>();
+
+		try (BufferedReader bufferedReader = new BufferedReader(
+				new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+
+			boolean supportedFormat = false;
+			List<LookupElementBuilder> lookupElements = null;
+
+			String line;
+
+			while ((line = bufferedReader.readLine()) != null) {
+				line = line.trim();
+
+				if (line.isEmpty() || line.startsWith("#")) {
+					continue;
+				}
+
+				if (line.startsWith(_FORMAT_PREFIX)) {
+					String format = line.substring(_FORMAT_PREFIX.length());
+
+					if (!format.equals(String.valueOf(_FORMAT))) {
+						_log.warn("Unsupported format " + format + " of component properties " + name);
+
+						return Collections.emptyMap();
+					}
+
+					supportedFormat = true;
+				}
+				else if (!supportedFormat) {
+					_log.warn("Missing format of component properties " + name);
+
+					return Collections.emptyMap();
+				}
+				else if (line.startsWith("[") && line.endsWith("]")) {
+					String serviceClassName = line.substring(1, line.length() - 1);
+
+					lookupElements = lookupElementsMap.computeIfAbsent(serviceClassName, key -> new ArrayList<>());
+				}
+				else if (lookupElements != null) {
+					LookupElementBuilder lookupElementBuilder = sharedLookupElements.computeIfAbsent(
+						line, ComponentPropertiesRegistry::_createLookupElement);
+
+					if (lookupElementBuilder != null) {
+						lookupElements.add(lookupElementBuilder);
+					}
+				}
+			}
+		}
+		catch (IOException ioe) {
+			_log.warn("Unable to read component properties " + name, ioe);
+		}
+
+		for (Map.Entry<String, List<LookupElementBuilder>> entry : lookupElementsMap.entrySet()) {
+			List<LookupElementBuilder> lookupElements = entry.getValue();
+
+			lookupElements.sort(_lookupStringComparator);
+
+			entry.setValue(_merge(Collections.emptyList(), lookupElements));
+		}
+
+		return lookupElementsMap;
+	}
+
+	@NotNull
+	private static List<LookupElementBuilder> _merge(
+		@NotNull List<LookupElementBuilder> sortedLookupElements,
+		@NotNull List<LookupElementBuilder> otherLookupElements) {
+
+		List<LookupElementBuilder> result = new ArrayList<>(sortedLookupElements.size() + otherLookupElements.size());
+
+		int i = 0;
+		int j = 0;
+
+		while ((i < sortedLookupElements.size()) || (j < otherLookupElements.size())) {
+			LookupElementBuilder lookupElementBuilder;
+
+			if (j >= otherLookupElements.size()) {
+				lookupElementBuilder = sortedLookupElements.get(i++);
+			}
+			else if (i >= sortedLookupElements.size()) {
+				lookupElementBuilder = otherLookupElements.get(j++);
+			}
+			else if (_lookupStringComparator.compare(sortedLookupElements.get(i), otherLookupElements.get(j)) <= 0) {
+				lookupElementBuilder = sortedLookupElements.get(i++);
+			}
+			else {
+				lookupElementBuilder = otherLookupElements.get(j++);
+			}
+
+			if (result.isEmpty() ||
+				(_lookupStringComparator.compare(result.get(result.size() - 1), lookupElementBuilder) != 0)) {
+
+				result.add(lookupElementBuilder);
+			}
+		}
+
+		return Collections.unmodifiableList(result);
+	}
+
+	private static final String _DEFAULT_RESOURCE_NAME = "definitions/osgi/component-properties.txt";
+
+	private static final int _FORMAT = 1;
+
+	private static final String _FORMAT_PREFIX = "format=";
+
+	private static final String _RESOURCE_NAME_PREFIX = "definitions/osgi/component-properties";
+
+	private static final Logger _log = Logger.getInstance(ComponentPropertiesRegistry.class);
+
+	private static final Comparator<LookupElementBuilder> _lookupStringComparator = Comparator.comparing(
+		LookupElementBuilder::getLookupString);
+	private static final ConcurrentMap<String, ComponentPropertiesRegistry> _fileRegistries =
+		new ConcurrentHashMap<>();
+	private static final ConcurrentMap<String, ComponentPropertiesRegistry> _resourceRegistries =
+		new ConcurrentHashMap<>();
+	private static final ConcurrentMap<String, ComponentPropertiesRegistry> _versionRegistries =
+		new ConcurrentHashMap<>();
+
+	private final long _lastModified;
+	private final Map<String, List<LookupElementBuilder>> _lookupElements;
+	private final String _name;
+
+}
\ No newline at end of file
@@ -0,0 +1,215 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.language.osgi;
+
+import com.intellij.openapi.diagnostic.Logger;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.jetbrains.annotations.NotNull;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Collects the component properties per service class from the declarative services descriptors that bnd writes to
+ * OSGI-INF for every <code>@Component</code>, so the class jars of the target platform can be indexed without
+ * parsing sources or byte code.
+ *
+ * @author Dominik Marks
+ */
+public class ComponentPropertiesScanner {
+
+	public ComponentPropertiesScanner() throws ParserConfigurationException {
+		DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
+
+		documentBuilderFactory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+		documentBuilderFactory.setNamespaceAware(true);
+
+		_documentBuilder = documentBuilderFactory.newDocumentBuilder();
+
+		_documentBuilder.setErrorHandler(new DefaultHandler());
+	}
+
+	@NotNull
+	public Map<String, Map<String, String>> getComponentProperties() {
+		return _componentProperties;
+	}
+
+	public void scan(@NotNull File jarFile) throws IOException {
+		try (ZipFile zipFile = new ZipFile(jarFile)) {
+			Enumeration<? extends ZipEntry> zipEntries = zipFile.entries();
+
+			while (zipEntries.hasMoreElements()) {
+				ZipEntry zipEntry = zipEntries.nextElement();
+
+				String name = zipEntry.getName();
+
+				if (!zipEntry.isDirectory() && name.startsWith("OSGI-INF/") && name.endsWith(".xml") &&
+					(name.indexOf('/', 9) == -1)) {
+
+					try (InputStream inputStream = zipFile.getInputStream(zipEntry)) {
+						_scan(_documentBuilder.parse(inputStream));
+					}
+					catch (Exception e) {
+						if (_log.isDebugEnabled()) {
+							_log.debug("Unable to parse " + name + " in " + jarFile, e);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Writes the collected properties in the format read by {@link ComponentPropertiesRegistry}. The file is
+	 * replaced atomically so that other projects sharing it never read a partial index.
+	 */
+	public void write(@NotNull Path path) throws IOException {
+		Files.createDirectories(path.getParent());
+
+		Path tempPath = Files.createTempFile(path.getParent(), path.getFileName() + ".", ".tmp");
+
+		try {
+			try (BufferedWriter bufferedWriter = Files.newBufferedWriter(tempPath, StandardCharsets.UTF_8)) {
+				bufferedWriter.write("format=1");
+				bufferedWriter.newLine();
+
+				for (Map.Entry<String, Map<String, String>> entry : _componentProperties.entrySet()) {
+					bufferedWriter.newLine();
+					bufferedWriter.write("[" + entry.getKey() + "]");
+					bufferedWriter.newLine();
+
+					Map<String, String> properties = entry.getValue();
+
+					for (Map.Entry<String, String> property : properties.entrySet()) {
+						bufferedWriter.write(property.getKey() + "=" + property.getValue());
+						bufferedWriter.newLine();
+					}
+				}
+			}
+
+			Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		}
+		finally {
+			Files.deleteIfExists(tempPath);
+		}
+	}
+
+	@NotNull
+	private static List<Element> _getChildElements(@NotNull Element element, @NotNull String localName) {
+		List<Element> childElements = new ArrayList<>();
+
+		NodeList childNodes = element.getChildNodes();
+
+		for (int i = 0; i < childNodes.getLength(); i++) {
+			Node childNode = childNodes.item(i);
+
+			if (childNode instanceof Element) {
+				Element childElement = (Element)childNode;
+
+				String childLocalName = childElement.getLocalName();
+
+				if (childLocalName == null) {
+					childLocalName = childElement.getTagName();
+				}
+
+				if (localName.equals(childLocalName)) {
+					childElements.add(childElement);
+				}
+			}
+		}
+
+		return childElements;
+	}
+
+	private void _scan(@NotNull Document document) {
+		Element componentElement = document.getDocumentElement();
+
+		if (!"component".equals(componentElement.getLocalName())) {
+			return;
+		}
+
+		Map<String, String> properties = new TreeMap<>();
+
+		for (Element propertyElement : _getChildElements(componentElement, "property")) {
+			String name = propertyElement.getAttribute("name");
+
+			if (name.isEmpty()) {
+				continue;
+			}
+
+			String type = propertyElement.getAttribute("type");
+
+			if (type.isEmpty()) {
+				type = "String";
+			}
+
+			properties.put(name, type);
+		}
+
+		if (properties.isEmpty()) {
+			return;
+		}
+
+		for (Element serviceElement : _getChildElements(componentElement, "service")) {
+			for (Element provideElement : _getChildElements(serviceElement, "provide")) {
+				String serviceClassName = provideElement.getAttribute("interface");
+
+				if (serviceClassName.isEmpty()) {
+					continue;
+				}
+
+				Map<String, String> serviceProperties = _componentProperties.computeIfAbsent(
+					serviceClassName, key -> new TreeMap<>());
+
+				for (Map.Entry<String, String> property : properties.entrySet()) {
+					serviceProperties.putIfAbsent(property.getKey(), property.getValue());
+				}
+			}
+		}
+	}
+
+	private static final Logger _log = Logger.getInstance(ComponentPropertiesScanner.class);
+
+	private final Map<String, Map<String, String>> _componentProperties = new TreeMap<>();
+	private final DocumentBuilder _documentBuilder;
+
+}
\ No newline at end of file
@@ -14,6 +14,7 @@
 
 package com.liferay.ide.idea.language.service;
 
+import com.intellij.codeInspection.LocalInspectionToolSession;
 import com.intellij.codeInspection.LocalQuickFix;
 import com.intellij.codeInspection.ProblemDescriptor;
 import com.intellij.codeInspection.ProblemHighlightType;
@@ -21,6 +22,7 @@ import com.intellij.codeInspection.ProblemsHolder;
 import com.intellij.codeInspection.XmlSuppressableInspectionTool;
 import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
 import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiElementVisitor;
@@ -36,7 +38,12 @@ import com.intellij.psi.xml.XmlText;
 import com.liferay.ide.idea.util.LiferayInspectionsConstants;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 
 import org.jetbrains.annotations.Nls;
 import org.jetbrains.annotations.NotNull;
@@ -48,7 +55,9 @@ public abstract class AbstractLiferayServiceXMLDuplicateEntryInspection extends
 
 	@NotNull
 	@Override
-	public PsiElementVisitor buildVisitor(@NotNull ProblemsHolder problemsHolder, boolean onTheFly) {
+	public PsiElementVisitor buildVisitor(
+		@NotNull ProblemsHolder problemsHolder, boolean onTheFly, @NotNull LocalInspectionToolSession session) {
+
 		return new XmlElementVisitor() {
 
 			@Override
@@ -66,10 +75,13 @@ public abstract class AbstractLiferayServiceXMLDuplicateEntryInspection extends
 								XmlTag parentXmlTag = PsiTreeUtil.getParentOfType(xmlTag, XmlTag.class);
 
 								if (parentXmlTag != null) {
-									List<XmlTag> xmlTags = _getXmlTagsWithAttributeValue(
-										parentXmlTag, xmlTag.getLocalName(), xmlAttribute.getName(), text);
+									String attributeName = xmlAttribute.getName();
+
+									Map<String, List<XmlTag>> xmlTagsMap = _getXmlTagsMap(
+										session, parentXmlTag, xmlTag.getLocalName(), "@" + attributeName,
+										subXmlTag -> subXmlTag.getAttributeValue(attributeName));
 
-									if (xmlTags.size() > 1) {
+									if (_isDuplicate(xmlTagsMap, text)) {
 										problemsHolder.registerProblem(
 											xmlAttributeValue, "Duplicate entry",
 											ProblemHighlightType.GENERIC_ERROR_OR_WARNING, new RemoveXmlTagFix());
@@ -92,9 +104,15 @@ public abstract class AbstractLiferayServiceXMLDuplicateEntryInspection extends
 						XmlTag parentTag = PsiTreeUtil.getParentOfType(xmlTag, XmlTag.class);
 
 						if (parentTag != null) {
-							List<XmlTag> xmlTags = _getXmlTagsWithText(parentTag, xmlTag.getLocalName(), text);
+							Map<String, List<XmlTag>> xmlTagsMap = _getXmlTagsMap(
+								session, parentTag, xmlTag.getLocalName(), "#text",
+								subXmlTag -> {
+									XmlTagValue xmlTagValue = subXmlTag.getValue();
 
-							if (xmlTags.size() > 1) {
+									return xmlTagValue.getText();
+								});
+
+							if (_isDuplicate(xmlTagsMap, text)) {
 								problemsHolder.registerProblem(
 									xmlText, "Duplicate entry", ProblemHighlightType.GENERIC_ERROR_OR_WARNING,
 									new RemoveXmlTagFix());
@@ -129,40 +147,54 @@ public abstract class AbstractLiferayServiceXMLDuplicateEntryInspection extends
 
 	protected abstract boolean isSuitableXmlText(XmlText xmlText);
 
-	private List<XmlTag> _getXmlTagsWithAttributeValue(
-		XmlTag parentTag, String localName, String attributeName, String attributeValue) {
-
-		List<XmlTag> result = new ArrayList<>();
+	private static Map<String, List<XmlTag>> _getXmlTagsMap(
+		LocalInspectionToolSession session, XmlTag parentXmlTag, String localName, String keyName,
+		Function<XmlTag, String> keyFunction) {
 
-		for (XmlTag xmlTag : parentTag.getSubTags()) {
-			if (localName.equals(xmlTag.getLocalName())) {
-				XmlAttribute attribute = xmlTag.getAttribute(attributeName);
+		ConcurrentMap<XmlTag, ConcurrentMap<String, Map<String, List<XmlTag>>>> xmlTagsMaps = session.getUserData(
+			_XML_TAGS_MAPS_KEY);
 
-				if ((attribute != null) && attributeValue.equals(attribute.getValue())) {
-					result.add(xmlTag);
-				}
-			}
+		if (xmlTagsMaps == null) {
+			xmlTagsMaps = session.putUserDataIfAbsent(_XML_TAGS_MAPS_KEY, new ConcurrentHashMap<>());
 		}
 
-		return result;
-	}
+		ConcurrentMap<String, Map<String, List<XmlTag>>> parentXmlTagsMaps = xmlTagsMaps.computeIfAbsent(
+			parentXmlTag, key -> new ConcurrentHashMap<>());
+
+		return parentXmlTagsMaps.computeIfAbsent(
+			localName + keyName,
+			key -> {
+				Map<String, List<XmlTag>> xmlTagsMap = new HashMap<>();
 
-	private List<XmlTag> _getXmlTagsWithText(XmlTag parentTag, String localName, String text) {
-		List<XmlTag> result = new ArrayList<>();
+				for (XmlTag xmlTag : parentXmlTag.getSubTags()) {
+					if (localName.equals(xmlTag.getLocalName())) {
+						String value = keyFunction.apply(xmlTag);
 
-		for (XmlTag xmlTag : parentTag.getSubTags()) {
-			if (localName.equals(xmlTag.getLocalName())) {
-				XmlTagValue xmlTagValue = xmlTag.getValue();
+						if (value != null) {
+							List<XmlTag> xmlTags = xmlTagsMap.computeIfAbsent(value, k -> new ArrayList<>());
 
-				if (text.equals(xmlTagValue.getText())) {
-					result.add(xmlTag);
+							xmlTags.add(xmlTag);
+						}
+					}
 				}
-			}
+
+				return xmlTagsMap;
+			});
+	}
+
+	private static boolean _isDuplicate(Map<String, List<XmlTag>> xmlTagsMap, String value) {
+		List<XmlTag> xmlTags = xmlTagsMap.get(value);
+
+		if ((xmlTags != null) && (xmlTags.size() > 1)) {
+			return true;
 		}
 
-		return result;
+		return false;
 	}
 
+	private static final Key<ConcurrentMap<XmlTag, ConcurrentMap<String, Map<String, List<XmlTag>>>>>
+		_XML_TAGS_MAPS_KEY = Key.create("LIFERAY_SERVICE_XML_DUPLICATE_ENTRY_TAGS");
+
 	private static class RemoveXmlTagFix implements LocalQuickFix {
 
 		@Override
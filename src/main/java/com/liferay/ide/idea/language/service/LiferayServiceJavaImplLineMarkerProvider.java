@@ -18,20 +18,14 @@ import com.intellij.codeInsight.daemon.RelatedItemLineMarkerInfo;
 import com.intellij.codeInsight.daemon.RelatedItemLineMarkerProvider;
 import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder;
 import com.intellij.icons.AllIcons;
-import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiIdentifier;
 import com.intellij.psi.PsiJavaFile;
-import com.intellij.psi.search.FilenameIndex;
-import com.intellij.psi.search.GlobalSearchScope;
-import com.intellij.psi.xml.XmlFile;
 import com.intellij.psi.xml.XmlTag;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Objects;
+import java.util.List;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -58,42 +52,8 @@ public class LiferayServiceJavaImplLineMarkerProvider extends RelatedItemLineMar
 					String targetName = name.substring(0, name.length() - 4);
 					String targetPackage = packageName.substring(0, packageName.length() - 11);
 
-					Collection<PsiElement> targetPsiElements = new ArrayList<>();
-
-					Project project = psiElement.getProject();
-
-					PsiFile[] psiFiles = FilenameIndex.getFilesByName(
-						project, "service.xml", GlobalSearchScope.allScope(project));
-
-					for (PsiFile psiFile : psiFiles) {
-						if (psiFile instanceof XmlFile) {
-							XmlFile xmlFile = (XmlFile)psiFile;
-
-							if (xmlFile.isValid()) {
-								XmlTag rootXmlTag = xmlFile.getRootTag();
-
-								if (rootXmlTag == null) {
-									continue;
-								}
-
-								if (Objects.equals("service-builder", rootXmlTag.getLocalName())) {
-									String packagePath = rootXmlTag.getAttributeValue("package-path");
-
-									if (targetPackage.equals(packagePath)) {
-										XmlTag[] xmlTags = rootXmlTag.findSubTags("entity");
-
-										for (XmlTag xmlTag : xmlTags) {
-											String entityName = xmlTag.getAttributeValue("name");
-
-											if (targetName.equals(entityName)) {
-												targetPsiElements.add(xmlTag);
-											}
-										}
-									}
-								}
-							}
-						}
-					}
+					List<XmlTag> targetPsiElements = LiferayServiceXMLEntityIndex.getEntityXmlTags(
+						psiElement.getProject(), targetPackage, targetName);
 
 					if (!targetPsiElements.isEmpty()) {
 						NavigationGutterIconBuilder<PsiElement> builder = NavigationGutterIconBuilder.create(
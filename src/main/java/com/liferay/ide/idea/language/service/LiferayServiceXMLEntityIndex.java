@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.language.service;
+
+import com.intellij.ide.highlighter.XmlFileType;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.psi.xml.XmlFile;
+import com.intellij.psi.xml.XmlTag;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorIntegerDescriptor;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Maps "package-path.EntityName" to the offset of the matching entity tag in each service.xml.
+ *
+ * @author Dominik Marks
+ */
+public class LiferayServiceXMLEntityIndex extends FileBasedIndexExtension<String, Integer> {
+
+	public static final ID<String, Integer> NAME = ID.create("com.liferay.ide.idea.language.service.entity");
+
+	@NotNull
+	public static List<XmlTag> getEntityXmlTags(
+		@NotNull Project project, @NotNull String packagePath, @NotNull String entityName) {
+
+		FileBasedIndex fileBasedIndex = FileBasedIndex.getInstance();
+
+		PsiManager psiManager = PsiManager.getInstance(project);
+
+		List<XmlTag> xmlTags = new ArrayList<>();
+
+		fileBasedIndex.processValues(
+			NAME, getKey(packagePath, entityName), null,
+			(virtualFile, offset) -> {
+				PsiFile psiFile = psiManager.findFile(virtualFile);
+
+				if (psiFile instanceof XmlFile) {
+					PsiElement psiElement = psiFile.findElementAt(offset);
+
+					XmlTag xmlTag = PsiTreeUtil.getParentOfType(psiElement, XmlTag.class, false);
+
+					if ((xmlTag != null) && Objects.equals("entity", xmlTag.getLocalName())) {
+						xmlTags.add(xmlTag);
+					}
+				}
+
+				return true;
+			},
+			GlobalSearchScope.allScope(project));
+
+		return xmlTags;
+	}
+
+	@NotNull
+	public static String getKey(@NotNull String packagePath, @NotNull String entityName) {
+		return packagePath + "." + entityName;
+	}
+
+	@Override
+	public boolean dependsOnFileContent() {
+		return true;
+	}
+
+	@NotNull
+	@Override
+	public DataIndexer<String, Integer, FileContent> getIndexer() {
+		return fileContent -> {
+			PsiFile psiFile = fileContent.getPsiFile();
+
+			if (!(psiFile instanceof XmlFile)) {
+				return Collections.emptyMap();
+			}
+
+			XmlFile xmlFile = (XmlFile)psiFile;
+
+			XmlTag rootXmlTag = xmlFile.getRootTag();
+
+			if ((rootXmlTag == null) || !Objects.equals("service-builder", rootXmlTag.getLocalName())) {
+				return Collections.emptyMap();
+			}
+
+			String packagePath = rootXmlTag.getAttributeValue("package-path");
+
+			if (packagePath == null) {
+				return Collections.emptyMap();
+			}
+
+			Map<String, Integer> map = new HashMap<>();
+
+			for (XmlTag xmlTag : rootXmlTag.findSubTags("entity")) {
+				String entityName = xmlTag.getAttributeValue("name");
+
+				if (entityName != null) {
+					map.putIfAbsent(getKey(packagePath, entityName), xmlTag.getTextOffset());
+				}
+			}
+
+			return map;
+		};
+	}
+
+	@NotNull
+	@Override
+	public FileBasedIndex.InputFilter getInputFilter() {
+		return new DefaultFileTypeSpecificInputFilter(XmlFileType.INSTANCE) {
+
+			@Override
+			public boolean acceptInput(@NotNull VirtualFile virtualFile) {
+				return Objects.equals("service.xml", virtualFile.getName());
+			}
+
+		};
+	}
+
+	@NotNull
+	@Override
+	public KeyDescriptor<String> getKeyDescriptor() {
+		return EnumeratorStringDescriptor.INSTANCE;
+	}
+
+	@NotNull
+	@Override
+	public ID<String, Integer> getName() {
+		return NAME;
+	}
+
+	@NotNull
+	@Override
+	public DataExternalizer<Integer> getValueExternalizer() {
+		return EnumeratorIntegerDescriptor.INSTANCE;
+	}
+
+	@Override
+	public int getVersion() {
+		return 1;
+	}
+
+}
\ No newline at end of file
@@ -22,6 +22,7 @@ import com.intellij.openapi.project.Project;
 import com.intellij.psi.JavaPsiFacade;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiPackage;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.psi.xml.XmlAttribute;
@@ -29,23 +30,90 @@ import com.intellij.psi.xml.XmlTag;
 import com.intellij.psi.xml.XmlToken;
 import com.intellij.psi.xml.XmlTokenType;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
+ * Resolves the generated classes of every entity in one batch per highlighting pass, looking up each generated
+ * package once instead of searching for every class of every entity.
+ *
  * @author Dominik Marks
  */
 public class LiferayServiceXMLLineMarkerProvider extends RelatedItemLineMarkerProvider {
 
+	@Override
+	@SuppressWarnings("rawtypes")
+	public void collectNavigationMarkers(
+		@NotNull List<PsiElement> psiElements,
+		@NotNull Collection<? super RelatedItemLineMarkerInfo> lineMarkerInfos, boolean forNavigation) {
+
+		Map<String, Map<String, PsiClass>> generatedClassesMap = new HashMap<>();
+
+		for (PsiElement psiElement : psiElements) {
+			XmlAttribute xmlAttribute = _getEntityNameXmlAttribute(psiElement);
+
+			if (xmlAttribute == null) {
+				continue;
+			}
+
+			XmlTag xmlTag = xmlAttribute.getParent();
+
+			XmlTag serviceBuilderXmlTag = xmlTag.getParentTag();
+
+			String entityName = xmlAttribute.getValue();
+
+			String packagePath = serviceBuilderXmlTag.getAttributeValue("package-path");
+
+			if ((entityName == null) || (packagePath == null)) {
+				continue;
+			}
+
+			Map<String, PsiClass> generatedClasses = generatedClassesMap.computeIfAbsent(
+				packagePath, key -> _getGeneratedClasses(psiElement.getProject(), key));
+
+			List<PsiClass> targetPsiClasses = new ArrayList<>();
+
+			for (String classNamePattern : _GENERATED_CLASS_NAME_PATTERNS) {
+				String className = String.format(classNamePattern, packagePath, entityName);
+
+				PsiClass psiClass = generatedClasses.get(className);
+
+				if (psiClass != null) {
+					targetPsiClasses.add(psiClass);
+				}
+			}
+
+			if (!targetPsiClasses.isEmpty()) {
+				NavigationGutterIconBuilder<PsiElement> navigationGutterIconBuilder =
+					NavigationGutterIconBuilder.create(AllIcons.Gutter.ImplementedMethod);
+
+				navigationGutterIconBuilder.setTargets(targetPsiClasses);
+				navigationGutterIconBuilder.setTooltipText("Navigate to Generated Classes");
+
+				lineMarkerInfos.add(navigationGutterIconBuilder.createLineMarkerInfo(psiElement));
+			}
+		}
+	}
+
 	@Override
 	@SuppressWarnings("rawtypes")
 	protected void collectNavigationMarkers(
 		@NotNull PsiElement psiElement, @NotNull Collection<? super RelatedItemLineMarkerInfo> lineMarkerInfos) {
 
+		collectNavigationMarkers(Collections.singletonList(psiElement), lineMarkerInfos, false);
+	}
+
+	@Nullable
+	private static XmlAttribute _getEntityNameXmlAttribute(PsiElement psiElement) {
 		Optional<XmlAttribute> nameXmlAttribute = Optional.of(
 			psiElement
 		).filter(
@@ -60,45 +128,61 @@ public class LiferayServiceXMLLineMarkerProvider extends RelatedItemLineMarkerPr
 			xmlAttribute -> Objects.equals("name", xmlAttribute.getLocalName())
 		);
 
-		nameXmlAttribute.map(
-			xmlAttribute -> PsiTreeUtil.getParentOfType(xmlAttribute, XmlTag.class)
-		).map(
-			PsiElement::getParent
-		).filter(
-			XmlTag.class::isInstance
-		).map(
-			XmlTag.class::cast
-		).filter(
-			parentXmlTag -> Objects.equals("service-builder", parentXmlTag.getLocalName())
-		).ifPresent(
-			serviceBuilderXmlTag -> {
-				XmlAttribute xmlAttribute = nameXmlAttribute.get();
+		return nameXmlAttribute.filter(
+			xmlAttribute -> {
+				XmlTag xmlTag = xmlAttribute.getParent();
+
+				if ((xmlTag == null) || !Objects.equals("entity", xmlTag.getLocalName())) {
+					return false;
+				}
 
-				String entityName = xmlAttribute.getValue();
+				XmlTag parentXmlTag = xmlTag.getParentTag();
 
-				String packagePath = serviceBuilderXmlTag.getAttributeValue("package-path");
+				if ((parentXmlTag == null) || !Objects.equals("service-builder", parentXmlTag.getLocalName())) {
+					return false;
+				}
 
-				if ((entityName != null) && (packagePath != null)) {
-					Project project = psiElement.getProject();
+				return true;
+			}
+		).orElse(
+			null
+		);
+	}
 
-					String targetClassName = packagePath + ".model.impl." + entityName + "Impl";
+	@NotNull
+	private static Map<String, PsiClass> _getGeneratedClasses(@NotNull Project project, @NotNull String packagePath) {
+		Map<String, PsiClass> generatedClasses = new HashMap<>();
 
-					JavaPsiFacade javaPsiFacade = JavaPsiFacade.getInstance(project);
+		JavaPsiFacade javaPsiFacade = JavaPsiFacade.getInstance(project);
 
-					PsiClass psiClass = javaPsiFacade.findClass(targetClassName, GlobalSearchScope.allScope(project));
+		GlobalSearchScope globalSearchScope = GlobalSearchScope.allScope(project);
 
-					if (psiClass != null) {
-						NavigationGutterIconBuilder<PsiElement> navigationGutterIconBuilder =
-							NavigationGutterIconBuilder.create(AllIcons.Gutter.ImplementedMethod);
+		for (String packageSuffix : _GENERATED_PACKAGE_SUFFIXES) {
+			PsiPackage psiPackage = javaPsiFacade.findPackage(packagePath + packageSuffix);
 
-						navigationGutterIconBuilder.setTargets(Collections.singletonList(psiClass));
-						navigationGutterIconBuilder.setTooltipText("Navigate to Implementation");
+			if (psiPackage == null) {
+				continue;
+			}
 
-						lineMarkerInfos.add(navigationGutterIconBuilder.createLineMarkerInfo(psiElement));
-					}
+			for (PsiClass psiClass : psiPackage.getClasses(globalSearchScope)) {
+				String qualifiedName = psiClass.getQualifiedName();
+
+				if (qualifiedName != null) {
+					generatedClasses.putIfAbsent(qualifiedName, psiClass);
 				}
 			}
-		);
+		}
+
+		return generatedClasses;
 	}
 
+	private static final String[] _GENERATED_CLASS_NAME_PATTERNS = {
+		"%s.model.impl.%sImpl", "%s.model.%s", "%s.service.persistence.%sPersistence",
+		"%s.service.persistence.%sFinder", "%s.service.%sLocalService", "%s.service.%sService"
+	};
+
+	private static final String[] _GENERATED_PACKAGE_SUFFIXES = {
+		".model", ".model.impl", ".service", ".service.persistence"
+	};
+
 }
\ No newline at end of file
@@ -26,7 +26,6 @@ import com.intellij.xml.util.XmlUtil;
 import java.util.AbstractMap;
 import java.util.Collection;
 import java.util.Map;
-import java.util.stream.Stream;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -45,6 +44,18 @@ public abstract class AbstractLiferayTaglibReferenceContributor extends PsiRefer
 
 	protected abstract PsiReferenceProvider getPsiReferenceProvider();
 
+	protected LiferayTaglibAttributes getTaglibAttributes() {
+		LiferayTaglibAttributes taglibAttributes = _taglibAttributes;
+
+		if (taglibAttributes == null) {
+			taglibAttributes = LiferayTaglibAttributes.of(getTaglibAttributesMap());
+
+			_taglibAttributes = taglibAttributes;
+		}
+
+		return taglibAttributes;
+	}
+
 	protected abstract Map<String, Collection<AbstractMap.SimpleImmutableEntry<String, String>>>
 		getTaglibAttributesMap();
 
@@ -52,36 +63,16 @@ public abstract class AbstractLiferayTaglibReferenceContributor extends PsiRefer
 		XmlTag xmlTag = xmlAttribute.getParent();
 
 		if (xmlTag != null) {
-			String namespace = xmlTag.getNamespace();
-			String localName = xmlTag.getLocalName();
-			String attributeName = xmlAttribute.getLocalName();
-
-			Map<String, Collection<AbstractMap.SimpleImmutableEntry<String, String>>> taglibAttributesMap =
-				getTaglibAttributesMap();
+			LiferayTaglibAttributes taglibAttributes = getTaglibAttributes();
 
-			if (taglibAttributesMap.containsKey(namespace)) {
-				Collection<AbstractMap.SimpleImmutableEntry<String, String>> entries = taglibAttributesMap.get(
-					namespace);
-
-				Stream<AbstractMap.SimpleImmutableEntry<String, String>> entriesStream = entries.stream();
-
-				return entriesStream.anyMatch(
-					entry -> {
-						String key = entry.getKey();
-						String value = entry.getValue();
-
-						if (key.equals(localName) && value.equals(attributeName)) {
-							return true;
-						}
-
-						return false;
-					});
-			}
+			return taglibAttributes.contains(xmlTag.getNamespace(), xmlTag.getLocalName(), xmlAttribute.getLocalName());
 		}
 
 		return false;
 	}
 
+	private volatile LiferayTaglibAttributes _taglibAttributes;
+
 	private class LiferayTaglibFilter implements ElementFilter {
 
 		public boolean isAcceptable(Object element, PsiElement psiElementContext) {
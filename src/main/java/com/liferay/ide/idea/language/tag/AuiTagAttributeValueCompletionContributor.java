@@ -15,78 +15,76 @@
 package com.liferay.ide.idea.language.tag;
 
 import com.intellij.codeInsight.completion.CompletionContributor;
+import com.intellij.codeInsight.completion.CompletionParameters;
+import com.intellij.codeInsight.completion.CompletionProvider;
+import com.intellij.codeInsight.completion.CompletionResultSet;
 import com.intellij.codeInsight.completion.CompletionType;
 import com.intellij.patterns.PlatformPatterns;
 import com.intellij.patterns.PsiElementPattern;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.psi.xml.XmlAttribute;
+import com.intellij.psi.xml.XmlAttributeValue;
+import com.intellij.psi.xml.XmlTag;
+import com.intellij.util.ProcessingContext;
 
 import java.net.URL;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.dom4j.Document;
 import org.dom4j.DocumentException;
 import org.dom4j.Node;
 import org.dom4j.io.SAXReader;
 
+import org.jetbrains.annotations.NotNull;
+
 /**
  * @author Terry Jia
  */
 public class AuiTagAttributeValueCompletionContributor extends CompletionContributor {
 
 	public AuiTagAttributeValueCompletionContributor() {
-		for (String[] attribute : _parseBooleanAttributes()) {
-			PsiElementPattern.Capture<PsiElement> capture = PlatformPatterns.psiElement();
+		BooleanCompletionProvider booleanCompletionProvider = new BooleanCompletionProvider();
 
-			extend(
-				CompletionType.BASIC, capture.with(new TagPatternCondition(attribute[0], attribute[1], attribute[2])),
-				new BooleanCompletionProvider());
+		for (String[] attribute : _parseBooleanAttributes()) {
+			_addCompletionProvider(attribute[0], attribute[1], attribute[2], booleanCompletionProvider);
 		}
 
-		for (String[] attribute : _getLexiconAttributes()) {
-			PsiElementPattern.Capture<PsiElement> capture = PlatformPatterns.psiElement();
+		StringCompletionProvider lexiconCompletionProvider = new StringCompletionProvider(new String[] {"lexicon"});
 
-			extend(
-				CompletionType.BASIC, capture.with(new TagPatternCondition(attribute[0], attribute[1], attribute[2])),
-				new StringCompletionProvider(new String[] {"lexicon"}));
+		for (String[] attribute : _getLexiconAttributes()) {
+			_addCompletionProvider(attribute[0], attribute[1], attribute[2], lexiconCompletionProvider);
 		}
 
-		for (String[] attribute : _getLeftRightAttributes()) {
-			PsiElementPattern.Capture<PsiElement> capture = PlatformPatterns.psiElement();
+		StringCompletionProvider leftRightCompletionProvider = new StringCompletionProvider(
+			new String[] {"left", "right"});
 
-			extend(
-				CompletionType.BASIC, capture.with(new TagPatternCondition(attribute[0], attribute[1], attribute[2])),
-				new StringCompletionProvider(new String[] {"left", "right"}));
+		for (String[] attribute : _getLeftRightAttributes()) {
+			_addCompletionProvider(attribute[0], attribute[1], attribute[2], leftRightCompletionProvider);
 		}
 
-		for (String[] attribute : _getTargetAttributes()) {
-			PsiElementPattern.Capture<PsiElement> capture = PlatformPatterns.psiElement();
+		StringCompletionProvider targetCompletionProvider = new StringCompletionProvider(
+			new String[] {"blank", "self", "parent", "top", "_blank", "_new"});
 
-			extend(
-				CompletionType.BASIC, capture.with(new TagPatternCondition(attribute[0], attribute[1], attribute[2])),
-				new StringCompletionProvider(new String[] {"blank", "self", "parent", "top", "_blank", "_new"}));
+		for (String[] attribute : _getTargetAttributes()) {
+			_addCompletionProvider(attribute[0], attribute[1], attribute[2], targetCompletionProvider);
 		}
 
-		PsiElementPattern.Capture<PsiElement> buttonCapture = PlatformPatterns.psiElement();
-
-		extend(
-			CompletionType.BASIC,
-			buttonCapture.with(new TagPatternCondition(LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "button", "type")),
+		_addCompletionProvider(
+			LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "button", "type",
 			new StringCompletionProvider(new String[] {"button", "submit", "cancel", "reset"}));
 
-		PsiElementPattern.Capture<PsiElement> formCapture = PlatformPatterns.psiElement();
-
-		extend(
-			CompletionType.BASIC,
-			formCapture.with(new TagPatternCondition(LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "form", "method")),
+		_addCompletionProvider(
+			LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "form", "method",
 			new StringCompletionProvider(new String[] {"get", "post"}));
 
-		PsiElementPattern.Capture<PsiElement> inputCapture = PlatformPatterns.psiElement();
-
-		extend(
-			CompletionType.BASIC,
-			inputCapture.with(new TagPatternCondition(LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "input", "type")),
+		_addCompletionProvider(
+			LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "input", "type",
 			new StringCompletionProvider(
 				new String[] {
 					"text", "hidden", "assetCategories", "assetTags", "textarea", "timeZone", "password", "checkbox",
@@ -94,16 +92,52 @@ public class AuiTagAttributeValueCompletionContributor extends CompletionContrib
 					"toggle-card", "toggle-switch", "image"
 				}));
 
-		PsiElementPattern.Capture<PsiElement> validatorCapture = PlatformPatterns.psiElement();
-
-		extend(
-			CompletionType.BASIC,
-			validatorCapture.with(new TagPatternCondition(LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "validator", "name")),
+		_addCompletionProvider(
+			LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "validator", "name",
 			new StringCompletionProvider(
 				new String[] {
 					"acceptFiles", "alpha", "alphanum", "custom", "date", "digits", "email", "equalTo", "iri", "max",
 					"maxLength", "min", "minLength", "number", "range", "rangeLength", "required", "url"
 				}));
+
+		PsiElementPattern.Capture<PsiElement> capture = PlatformPatterns.psiElement();
+
+		extend(
+			CompletionType.BASIC, capture.inside(XmlAttributeValue.class),
+			new AttributeValueDispatchingCompletionProvider());
+	}
+
+	private void _addCompletionProvider(
+		String uri, String tagName, String attributeName, CompletionProvider<CompletionParameters> completionProvider) {
+
+		Map<String, Map<String, List<CompletionProvider<CompletionParameters>>>> tags =
+			_completionProviders.computeIfAbsent(uri, key -> new HashMap<>());
+
+		Map<String, List<CompletionProvider<CompletionParameters>>> attributes = tags.computeIfAbsent(
+			tagName, key -> new HashMap<>());
+
+		List<CompletionProvider<CompletionParameters>> completionProviders = attributes.computeIfAbsent(
+			attributeName, key -> new ArrayList<>());
+
+		completionProviders.add(completionProvider);
+	}
+
+	private List<CompletionProvider<CompletionParameters>> _getCompletionProviders(
+		String uri, String tagName, String attributeName) {
+
+		Map<String, Map<String, List<CompletionProvider<CompletionParameters>>>> tags = _completionProviders.get(uri);
+
+		if (tags == null) {
+			return Collections.emptyList();
+		}
+
+		Map<String, List<CompletionProvider<CompletionParameters>>> attributes = tags.get(tagName);
+
+		if (attributes == null) {
+			return Collections.emptyList();
+		}
+
+		return attributes.getOrDefault(attributeName, Collections.emptyList());
 	}
 
 	private static List<String[]> _getLeftRightAttributes() {
@@ -182,4 +216,45 @@ public class AuiTagAttributeValueCompletionContributor extends CompletionContrib
 		return booleanAttributes;
 	}
 
+	private final Map<String, Map<String, Map<String, List<CompletionProvider<CompletionParameters>>>>>
+		_completionProviders = new HashMap<>();
+
+	private class AttributeValueDispatchingCompletionProvider extends CompletionProvider<CompletionParameters> {
+
+		@Override
+		protected void addCompletions(
+			@NotNull CompletionParameters parameters, @NotNull ProcessingContext context,
+			@NotNull CompletionResultSet result) {
+
+			XmlAttributeValue xmlAttributeValue = PsiTreeUtil.getParentOfType(
+				parameters.getPosition(), XmlAttributeValue.class);
+
+			if (xmlAttributeValue == null) {
+				return;
+			}
+
+			PsiElement parent = xmlAttributeValue.getParent();
+
+			if (!(parent instanceof XmlAttribute)) {
+				return;
+			}
+
+			XmlAttribute xmlAttribute = (XmlAttribute)parent;
+
+			XmlTag xmlTag = xmlAttribute.getParent();
+
+			if (xmlTag == null) {
+				return;
+			}
+
+			List<CompletionProvider<CompletionParameters>> completionProviders = _getCompletionProviders(
+				xmlTag.getNamespace(), xmlTag.getLocalName(), xmlAttribute.getName());
+
+			for (CompletionProvider<CompletionParameters> completionProvider : completionProviders) {
+				completionProvider.addCompletionVariants(parameters, context, result);
+			}
+		}
+
+	}
+
 }
\ No newline at end of file
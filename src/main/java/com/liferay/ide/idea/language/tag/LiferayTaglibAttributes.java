@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.language.tag;
+
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Immutable lookup table of taglib attributes keyed by namespace, tag local name and attribute name.
+ *
+ * @author Dominik Marks
+ */
+public class LiferayTaglibAttributes {
+
+	public static LiferayTaglibAttributes of(
+		Map<String, Collection<AbstractMap.SimpleImmutableEntry<String, String>>> taglibAttributesMap) {
+
+		return new LiferayTaglibAttributes(taglibAttributesMap);
+	}
+
+	private LiferayTaglibAttributes(
+		Map<String, Collection<AbstractMap.SimpleImmutableEntry<String, String>>> taglibAttributesMap) {
+
+		Map<String, Map<String, Set<String>>> namespaces = new HashMap<>();
+		Set<String> attributeNames = new TreeSet<>();
+
+		taglibAttributesMap.forEach(
+			(namespace, entries) -> {
+				Map<String, Set<String>> tags = namespaces.computeIfAbsent(namespace, key -> new HashMap<>());
+
+				for (AbstractMap.SimpleImmutableEntry<String, String> entry : entries) {
+					Set<String> tagAttributeNames = tags.computeIfAbsent(entry.getKey(), key -> new HashSet<>());
+
+					tagAttributeNames.add(entry.getValue());
+
+					attributeNames.add(entry.getValue());
+				}
+			});
+
+		namespaces.replaceAll(
+			(namespace, tags) -> {
+				tags.replaceAll((tagLocalName, tagAttributeNames) -> Collections.unmodifiableSet(tagAttributeNames));
+
+				return Collections.unmodifiableMap(tags);
+			});
+
+		_namespaces = Collections.unmodifiableMap(namespaces);
+		_attributeNames = attributeNames.toArray(new String[0]);
+	}
+
+	public boolean contains(String namespace, String tagLocalName, String attributeName) {
+		if ((namespace == null) || (tagLocalName == null) || (attributeName == null)) {
+			return false;
+		}
+
+		Map<String, Set<String>> tags = _namespaces.get(namespace);
+
+		if (tags == null) {
+			return false;
+		}
+
+		Set<String> attributeNames = tags.get(tagLocalName);
+
+		if (attributeNames == null) {
+			return false;
+		}
+
+		return attributeNames.contains(attributeName);
+	}
+
+	public String[] getAttributeNames() {
+		return _attributeNames.clone();
+	}
+
+	private final String[] _attributeNames;
+	private final Map<String, Map<String, Set<String>>> _namespaces;
+
+}
\ No newline at end of file
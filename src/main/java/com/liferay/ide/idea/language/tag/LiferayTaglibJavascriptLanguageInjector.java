@@ -33,7 +33,6 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -72,44 +71,16 @@ public class LiferayTaglibJavascriptLanguageInjector implements JSTargetedInject
 		String localName = xmlTag.getLocalName();
 		String namespace = xmlTag.getNamespace();
 
-		if (_taglibAttributes.containsKey(namespace)) {
-			Collection<AbstractMap.SimpleImmutableEntry<String, String>> attributes = _taglibAttributes.get(namespace);
-
-			Stream<AbstractMap.SimpleImmutableEntry<String, String>> stream = attributes.stream();
-
-			if (psiElement instanceof XmlTag) {
-				stream.filter(
-					attribute -> {
-						String key = attribute.getKey();
-
-						return key.equals(localName);
-					}
-				).filter(
-					attribute -> Objects.equals("", attribute.getValue())
-				).forEach(
-					attribute -> _injectIntoBody(multiHostRegistrar, (XmlTag)psiElement)
-				);
+		if (psiElement instanceof XmlTag) {
+			if (_taglibAttributes.contains(namespace, localName, "")) {
+				_injectIntoBody(multiHostRegistrar, xmlTag);
 			}
-			else {
-				XmlAttribute xmlAttribute = (XmlAttribute)psiElement;
-
-				String attributeName = xmlAttribute.getLocalName();
-
-				stream.filter(
-					attribute -> {
-						String key = attribute.getKey();
-
-						return key.equals(localName);
-					}
-				).filter(
-					attribute -> {
-						String value = attribute.getValue();
+		}
+		else {
+			XmlAttribute xmlAttribute = (XmlAttribute)psiElement;
 
-						return value.equals(attributeName);
-					}
-				).forEach(
-					attribute -> _injectIntoAttribute(multiHostRegistrar, xmlAttribute)
-				);
+			if (_taglibAttributes.contains(namespace, localName, xmlAttribute.getLocalName())) {
+				_injectIntoAttribute(multiHostRegistrar, xmlAttribute);
 			}
 		}
 	}
@@ -191,7 +162,7 @@ public class LiferayTaglibJavascriptLanguageInjector implements JSTargetedInject
 	}
 
 	@SuppressWarnings("serial")
-	private static Map<String, Collection<AbstractMap.SimpleImmutableEntry<String, String>>> _taglibAttributes =
+	private static final LiferayTaglibAttributes _taglibAttributes = LiferayTaglibAttributes.of(
 		new HashMap<String, Collection<AbstractMap.SimpleImmutableEntry<String, String>>>() {
 			{
 				put(
@@ -236,6 +207,6 @@ public class LiferayTaglibJavascriptLanguageInjector implements JSTargetedInject
 						new AbstractMap.SimpleImmutableEntry<>("quick-access-entry", "onClick"),
 						new AbstractMap.SimpleImmutableEntry<>("tabs", "onClick")));
 			}
-		};
+		});
 
 }
\ No newline at end of file
@@ -26,10 +26,6 @@ import java.util.AbstractMap;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
-import java.util.stream.Stream;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -42,26 +38,13 @@ public class LiferayTaglibResourceBundleReferenceContributor extends PsiReferenc
 
 	@Override
 	public void registerReferenceProviders(@NotNull PsiReferenceRegistrar registrar) {
-		Set<String> attributeNames = new HashSet<>();
-
-		_taglibAttributes.forEach(
-			(key, value) -> {
-				Stream<AbstractMap.SimpleImmutableEntry<String, String>> stream = value.stream();
-
-				stream.map(
-					AbstractMap.SimpleImmutableEntry::getValue
-				).forEach(
-					attributeNames::add
-				);
-			});
-
 		XmlUtil.registerXmlAttributeValueReferenceProvider(
-			registrar, attributeNames.toArray(new String[0]), new LiferayTaglibFilter(), true,
+			registrar, _taglibAttributes.getAttributeNames(), new LiferayTaglibFilter(), true,
 			new LiferayTaglibResourceBundleReferenceProvider(true));
 	}
 
 	@SuppressWarnings("serial")
-	private static Map<String, Collection<AbstractMap.SimpleImmutableEntry<String, String>>> _taglibAttributes =
+	private static final LiferayTaglibAttributes _taglibAttributes = LiferayTaglibAttributes.of(
 		new HashMap<String, Collection<AbstractMap.SimpleImmutableEntry<String, String>>>() {
 			{
 				put(
@@ -239,7 +222,7 @@ public class LiferayTaglibResourceBundleReferenceContributor extends PsiReferenc
 						new AbstractMap.SimpleImmutableEntry<>("tabs", "names"),
 						new AbstractMap.SimpleImmutableEntry<>("upload-progress", "message")));
 			}
-		};
+		});
 
 	private class LiferayTaglibFilter implements ElementFilter {
 
@@ -255,35 +238,8 @@ public class LiferayTaglibResourceBundleReferenceContributor extends PsiReferenc
 				XmlTag xmlTag = xmlAttribute.getParent();
 
 				if (xmlTag != null) {
-					String namespace = xmlTag.getNamespace();
-
-					if (_taglibAttributes.containsKey(namespace)) {
-						String attributeLocalName = xmlAttribute.getLocalName();
-						String tagLocalName = xmlTag.getLocalName();
-
-						Collection<AbstractMap.SimpleImmutableEntry<String, String>> entries = _taglibAttributes.get(
-							namespace);
-
-						Stream<AbstractMap.SimpleImmutableEntry<String, String>> stream = entries.stream();
-
-						boolean anyMatch = stream.anyMatch(
-							entry -> {
-								String key = entry.getKey();
-								String value = entry.getValue();
-
-								if (key.equals(tagLocalName) && value.equals(attributeLocalName)) {
-									return true;
-								}
-
-								return false;
-							});
-
-						if (anyMatch) {
-							return true;
-						}
-
-						return false;
-					}
+					return _taglibAttributes.contains(
+						xmlTag.getNamespace(), xmlTag.getLocalName(), xmlAttribute.getLocalName());
 				}
 			}
 
@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.server.gogo;
+
+import java.util.Objects;
+
+/**
+ * @author Gregory Amerson
+ */
+public class GogoBundle {
+
+	public GogoBundle(long id, String state, String symbolicName, String version) {
+		_id = id;
+		_state = state;
+		_symbolicName = symbolicName;
+		_version = version;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof GogoBundle)) {
+			return false;
+		}
+
+		GogoBundle gogoBundle = (GogoBundle)obj;
+
+		if ((_id == gogoBundle._id) && Objects.equals(_state, gogoBundle._state) &&
+			Objects.equals(_symbolicName, gogoBundle._symbolicName) && Objects.equals(_version, gogoBundle._version)) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	public long getId() {
+		return _id;
+	}
+
+	public String getState() {
+		return _state;
+	}
+
+	public String getSymbolicName() {
+		return _symbolicName;
+	}
+
+	public String getVersion() {
+		return _version;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(_id, _state, _symbolicName, _version);
+	}
+
+	@Override
+	public String toString() {
+		return _id + "|" + _state + "|" + _symbolicName + " (" + _version + ")";
+	}
+
+	private final long _id;
+	private final String _state;
+	private final String _symbolicName;
+	private final String _version;
+
+}
\ No newline at end of file
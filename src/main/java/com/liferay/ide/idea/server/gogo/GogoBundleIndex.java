@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.server.gogo;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.intellij.util.messages.MessageBus;
+
+import java.util.Collection;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Polls <code>lb -s</code> through the gogo shell and publishes the difference to the previous snapshot on
+ * {@link GogoBundleIndexListener#TOPIC}.
+ *
+ * @author Gregory Amerson
+ */
+public class GogoBundleIndex implements Disposable {
+
+	public static GogoBundleIndex getInstance(@NotNull Project project) {
+		return ServiceManager.getService(project, GogoBundleIndex.class);
+	}
+
+	public GogoBundleIndex(@NotNull Project project) {
+		_project = project;
+	}
+
+	@Override
+	public void dispose() {
+		stopPolling();
+	}
+
+	@Nullable
+	public GogoBundle getBundle(@NotNull String symbolicName) {
+		return _snapshot.getBundle(symbolicName);
+	}
+
+	@NotNull
+	public Collection<GogoBundle> getBundles() {
+		return _snapshot.getBundles();
+	}
+
+	@NotNull
+	public GogoBundleSnapshot getSnapshot() {
+		return _snapshot;
+	}
+
+	public void refresh() {
+		if (_project.isDisposed() || !_refreshing.compareAndSet(false, true)) {
+			return;
+		}
+
+		GogoShellService gogoShellService = GogoShellService.getInstance(_project);
+
+		gogoShellService.send(
+			"lb -s"
+		).whenComplete(
+			(output, throwable) -> {
+				if (throwable == null) {
+					_update(GogoBundleSnapshot.parse(output));
+				}
+				else {
+					_update(GogoBundleSnapshot.EMPTY);
+				}
+
+				_refreshing.set(false);
+			}
+		);
+	}
+
+	public synchronized void startPolling() {
+		if (_scheduledFuture != null) {
+			return;
+		}
+
+		ScheduledExecutorService scheduledExecutorService = AppExecutorUtil.getAppScheduledExecutorService();
+
+		_scheduledFuture = scheduledExecutorService.scheduleWithFixedDelay(
+			this::refresh, 0, _POLLING_INTERVAL, TimeUnit.SECONDS);
+	}
+
+	public synchronized void stopPolling() {
+		if (_scheduledFuture != null) {
+			_scheduledFuture.cancel(false);
+
+			_scheduledFuture = null;
+		}
+	}
+
+	private synchronized void _update(GogoBundleSnapshot snapshot) {
+		GogoBundleSnapshot.Delta delta = snapshot.diff(_snapshot);
+
+		_snapshot = snapshot;
+
+		if (delta.isEmpty() || _project.isDisposed()) {
+			return;
+		}
+
+		MessageBus messageBus = _project.getMessageBus();
+
+		GogoBundleIndexListener gogoBundleIndexListener = messageBus.syncPublisher(GogoBundleIndexListener.TOPIC);
+
+		gogoBundleIndexListener.bundlesChanged(snapshot, delta);
+	}
+
+	private static final long _POLLING_INTERVAL = 3;
+
+	private final Project _project;
+	private final AtomicBoolean _refreshing = new AtomicBoolean();
+	private ScheduledFuture<?> _scheduledFuture;
+	private volatile GogoBundleSnapshot _snapshot = GogoBundleSnapshot.EMPTY;
+
+}
\ No newline at end of file
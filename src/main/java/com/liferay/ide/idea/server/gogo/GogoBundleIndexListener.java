@@ -12,34 +12,22 @@
  * details.
  */
 
-package com.liferay.ide.idea.util;
+package com.liferay.ide.idea.server.gogo;
 
-import java.io.IOException;
-import java.io.OutputStream;
+import com.intellij.util.messages.Topic;
 
 /**
- * @author Terry Jia
+ * @author Gregory Amerson
  */
-public class StringBufferOutputStream extends OutputStream {
+public interface GogoBundleIndexListener {
 
-	public StringBufferOutputStream() {
-	}
-
-	public void clear() {
-		buffer.delete(0, buffer.length());
-	}
-
-	public String toString() {
-		return buffer.toString();
-	}
+	public static final Topic<GogoBundleIndexListener> TOPIC = Topic.create(
+		"Liferay Gogo Bundles", GogoBundleIndexListener.class);
 
 	/**
-	 * @see OutputStream#write(int)
+	 * @param snapshot the snapshot the delta leads to, so a listener that may have missed a delta can diff against
+	 *        it instead
 	 */
-	public void write(int write) throws IOException {
-		buffer.append((char)write);
-	}
-
-	protected StringBuffer buffer = new StringBuffer();
+	public void bundlesChanged(GogoBundleSnapshot snapshot, GogoBundleSnapshot.Delta delta);
 
 }
\ No newline at end of file
@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.server.gogo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable view of the bundles reported by one <code>lb -s</code> call, keyed by Bundle-SymbolicName.
+ *
+ * @author Gregory Amerson
+ */
+public class GogoBundleSnapshot {
+
+	public static final GogoBundleSnapshot EMPTY = new GogoBundleSnapshot(Collections.emptyMap());
+
+	public static GogoBundleSnapshot parse(String lbOutput) {
+		Map<String, GogoBundle> bundles = new HashMap<>();
+
+		Matcher matcher = _LB_LINE_PATTERN.matcher(lbOutput);
+
+		while (matcher.find()) {
+			GogoBundle gogoBundle = new GogoBundle(
+				Long.parseLong(matcher.group(1)), matcher.group(2), matcher.group(3), matcher.group(4));
+
+			bundles.put(gogoBundle.getSymbolicName(), gogoBundle);
+		}
+
+		return new GogoBundleSnapshot(bundles);
+	}
+
+	public Delta diff(GogoBundleSnapshot previous) {
+		List<GogoBundle> added = new ArrayList<>();
+		List<GogoBundle> changed = new ArrayList<>();
+		List<GogoBundle> removed = new ArrayList<>();
+
+		for (GogoBundle gogoBundle : _bundles.values()) {
+			GogoBundle previousGogoBundle = previous._bundles.get(gogoBundle.getSymbolicName());
+
+			if (previousGogoBundle == null) {
+				added.add(gogoBundle);
+			}
+			else if (previousGogoBundle.getId() != gogoBundle.getId()) {
+				removed.add(previousGogoBundle);
+				added.add(gogoBundle);
+			}
+			else if (!previousGogoBundle.equals(gogoBundle)) {
+				changed.add(gogoBundle);
+			}
+		}
+
+		for (GogoBundle previousGogoBundle : previous._bundles.values()) {
+			if (!_bundles.containsKey(previousGogoBundle.getSymbolicName())) {
+				removed.add(previousGogoBundle);
+			}
+		}
+
+		return new Delta(added, changed, removed);
+	}
+
+	public GogoBundle getBundle(String symbolicName) {
+		return _bundles.get(symbolicName);
+	}
+
+	public Collection<GogoBundle> getBundles() {
+		return Collections.unmodifiableCollection(_bundles.values());
+	}
+
+	public int size() {
+		return _bundles.size();
+	}
+
+	public static class Delta {
+
+		public Delta(List<GogoBundle> added, List<GogoBundle> changed, List<GogoBundle> removed) {
+			_added = added;
+			_changed = changed;
+			_removed = removed;
+		}
+
+		public List<GogoBundle> getAdded() {
+			return _added;
+		}
+
+		public List<GogoBundle> getChanged() {
+			return _changed;
+		}
+
+		public List<GogoBundle> getRemoved() {
+			return _removed;
+		}
+
+		public boolean isEmpty() {
+			if (_added.isEmpty() && _changed.isEmpty() && _removed.isEmpty()) {
+				return true;
+			}
+
+			return false;
+		}
+
+		private final List<GogoBundle> _added;
+		private final List<GogoBundle> _changed;
+		private final List<GogoBundle> _removed;
+
+	}
+
+	private GogoBundleSnapshot(Map<String, GogoBundle> bundles) {
+		_bundles = bundles;
+	}
+
+	// "   12|Active     |   10|com.liferay.foo.api (1.0.0)"
+	// "   13|Resolved   |   10|com.liferay.foo.fragment (1.0.0)|12"
+
+	private static final Pattern _LB_LINE_PATTERN = Pattern.compile(
+		"^\\s*(\\d+)\\|(\\w+)\\s*\\|\\s*\\d+\\|(\\S+)\\s*\\(([^)]*)\\)(?:\\|\\d+)?\\s*$", Pattern.MULTILINE);
+
+	private final Map<String, GogoBundle> _bundles;
+
+}
\ No newline at end of file
@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.server.gogo;
+
+import com.intellij.execution.ExecutionListener;
+import com.intellij.execution.ExecutionManager;
+import com.intellij.execution.process.ProcessHandler;
+import com.intellij.execution.runners.ExecutionEnvironment;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.intellij.util.messages.MessageBus;
+import com.intellij.util.messages.MessageBusConnection;
+
+import com.liferay.ide.idea.server.LiferayServerConfiguration;
+
+import java.io.IOException;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * @author Gregory Amerson
+ */
+public class GogoShellService implements Disposable {
+
+	public static final String DEFAULT_HOST = "localhost";
+
+	public static final int DEFAULT_PORT = 11311;
+
+	public static GogoShellService getInstance(@NotNull Project project) {
+		return ServiceManager.getService(project, GogoShellService.class);
+	}
+
+	public GogoShellService(@NotNull Project project) {
+		MessageBus messageBus = project.getMessageBus();
+
+		MessageBusConnection messageBusConnection = messageBus.connect(this);
+
+		messageBusConnection.subscribe(
+			ExecutionManager.EXECUTION_TOPIC,
+			new ExecutionListener() {
+
+				@Override
+				public void processStarted(
+					@NotNull String executorId, @NotNull ExecutionEnvironment executionEnvironment,
+					@NotNull ProcessHandler processHandler) {
+
+					if (executionEnvironment.getRunProfile() instanceof LiferayServerConfiguration) {
+						GogoShellSession gogoShellSession = _getSession(DEFAULT_HOST, DEFAULT_PORT);
+
+						gogoShellSession.close();
+						gogoShellSession.resetBackoff();
+					}
+				}
+
+				@Override
+				public void processTerminated(
+					@NotNull String executorId, @NotNull ExecutionEnvironment executionEnvironment,
+					@NotNull ProcessHandler processHandler, int exitCode) {
+
+					if (executionEnvironment.getRunProfile() instanceof LiferayServerConfiguration) {
+						GogoShellSession gogoShellSession = _getSession(DEFAULT_HOST, DEFAULT_PORT);
+
+						gogoShellSession.close();
+					}
+				}
+
+			});
+	}
+
+	@Override
+	public void dispose() {
+		_executorService.shutdownNow();
+
+		_gogoShellSessions.values(
+		).forEach(
+			GogoShellSession::close
+		);
+
+		_gogoShellSessions.clear();
+	}
+
+	@NotNull
+	public CompletableFuture<String> send(@NotNull String command) {
+		return send(DEFAULT_HOST, DEFAULT_PORT, command);
+	}
+
+	@NotNull
+	public CompletableFuture<String> send(@NotNull String host, int port, @NotNull String command) {
+		CompletableFuture<List<String>> future = sendAll(host, port, Collections.singletonList(command));
+
+		return future.thenApply(responses -> responses.get(0));
+	}
+
+	@NotNull
+	public CompletableFuture<List<String>> sendAll(@NotNull List<String> commands) {
+		return sendAll(DEFAULT_HOST, DEFAULT_PORT, commands);
+	}
+
+	@NotNull
+	public CompletableFuture<List<String>> sendAll(@NotNull String host, int port, @NotNull List<String> commands) {
+		GogoShellSession gogoShellSession = _getSession(host, port);
+
+		return CompletableFuture.supplyAsync(
+			() -> {
+				try {
+					return gogoShellSession.sendAll(commands);
+				}
+				catch (IOException ioe) {
+					throw new CompletionException(ioe);
+				}
+			},
+			_executorService);
+	}
+
+	private GogoShellSession _getSession(String host, int port) {
+		return _gogoShellSessions.computeIfAbsent(host + ":" + port, key -> new GogoShellSession(host, port));
+	}
+
+	private final ExecutorService _executorService = AppExecutorUtil.createBoundedApplicationPoolExecutor(
+		"Liferay Gogo Shell", 1);
+	private final Map<String, GogoShellSession> _gogoShellSessions = new ConcurrentHashMap<>();
+
+}
\ No newline at end of file
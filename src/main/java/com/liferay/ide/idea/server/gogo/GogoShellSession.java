@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.server.gogo;
+
+import java.io.IOException;
+
+import java.util.List;
+
+/**
+ * Keeps one negotiated gogo shell connection open and reconnects on demand, backing off while the portal is down.
+ *
+ * @author Gregory Amerson
+ */
+public class GogoShellSession implements AutoCloseable {
+
+	public GogoShellSession(String host, int port) {
+		_host = host;
+		_port = port;
+	}
+
+	@Override
+	public synchronized void close() {
+		if (_gogoTelnetClient != null) {
+			_gogoTelnetClient.close();
+
+			_gogoTelnetClient = null;
+		}
+	}
+
+	public String getHost() {
+		return _host;
+	}
+
+	public int getPort() {
+		return _port;
+	}
+
+	public synchronized boolean isConnected() {
+		if (_gogoTelnetClient != null) {
+			return true;
+		}
+
+		return false;
+	}
+
+	public synchronized void resetBackoff() {
+		_failures = 0;
+		_nextConnectTime = 0;
+	}
+
+	/**
+	 * Sends the commands over the open connection. If a reused connection turns out to be closed before anything was
+	 * written, for example because the portal was restarted, the commands are sent once more over a new connection.
+	 * A failure after the commands were written is not retried, since some of them may already have run.
+	 */
+	public synchronized List<String> sendAll(List<String> commands) throws IOException {
+		boolean reused = isConnected();
+
+		try {
+			return _sendAll(commands);
+		}
+		catch (GogoTelnetClient.CommandsNotSentException cnse) {
+			if (!reused) {
+				throw cnse;
+			}
+		}
+
+		return _sendAll(commands);
+	}
+
+	private GogoTelnetClient _connect() throws IOException {
+		if (_gogoTelnetClient != null) {
+			return _gogoTelnetClient;
+		}
+
+		long now = System.currentTimeMillis();
+
+		if (now < _nextConnectTime) {
+			throw new IOException(
+				"Gogo shell at " + _host + ":" + _port + " is unavailable, retrying in " + (_nextConnectTime - now) +
+					"ms");
+		}
+
+		try {
+			_gogoTelnetClient = new GogoTelnetClient(_host, _port);
+
+			resetBackoff();
+
+			return _gogoTelnetClient;
+		}
+		catch (IOException ioe) {
+			_failures++;
+
+			long backoff = Math.min(_MAX_BACKOFF, _MIN_BACKOFF << Math.min(_failures - 1, 16));
+
+			_nextConnectTime = now + backoff;
+
+			throw ioe;
+		}
+	}
+
+	private List<String> _sendAll(List<String> commands) throws IOException {
+		GogoTelnetClient gogoTelnetClient = _connect();
+
+		try {
+			return gogoTelnetClient.sendAll(commands);
+		}
+		catch (IOException ioe) {
+			close();
+
+			throw ioe;
+		}
+	}
+
+	private static final long _MAX_BACKOFF = 30000;
+
+	private static final long _MIN_BACKOFF = 500;
+
+	private int _failures;
+	private GogoTelnetClient _gogoTelnetClient;
+	private final String _host;
+	private long _nextConnectTime;
+	private final int _port;
+
+}
\ No newline at end of file
@@ -14,13 +14,21 @@
 
 package com.liferay.ide.idea.server.gogo;
 
-import java.io.DataInputStream;
-import java.io.DataOutputStream;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 
+import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.net.SocketTimeoutException;
+
+import java.nio.charset.StandardCharsets;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -33,56 +41,101 @@ public class GogoTelnetClient implements AutoCloseable {
 	}
 
 	public GogoTelnetClient(String host, int port) throws IOException {
-		_socket = new Socket(host, port);
+		this(host, port, _DEFAULT_READ_TIMEOUT);
+	}
+
+	/**
+	 * @param readTimeout the milliseconds to wait for the portal to answer before failing, so that a stalled portal,
+	 *        for example one suspended in the debugger, cannot block the caller forever
+	 */
+	public GogoTelnetClient(String host, int port, int readTimeout) throws IOException {
+		_readTimeout = readTimeout;
+
+		_socket = new Socket();
 
-		_inputStream = new DataInputStream(_socket.getInputStream());
-		_outputStream = new DataOutputStream(_socket.getOutputStream());
+		try {
+			_socket.connect(new InetSocketAddress(host, port), readTimeout);
+			_socket.setSoTimeout(readTimeout);
+
+			_inputStream = new BufferedInputStream(_socket.getInputStream());
+			_outputStream = _socket.getOutputStream();
+
+			_handshake();
+		}
+		catch (IOException | RuntimeException e) {
+			close();
 
-		_handshake();
+			throw e;
+		}
 	}
 
 	public void close() {
 		try {
 			_socket.close();
-			_inputStream.close();
-			_outputStream.close();
 		}
 		catch (IOException ioe) {
 		}
 	}
 
 	public String send(String command) throws IOException {
-		byte[] bytes = command.getBytes();
+		List<String> responses = sendAll(Collections.singletonList(command));
 
-		int[] codes = new int[bytes.length + 2];
+		return responses.get(0);
+	}
 
-		for (int i = 0; i < bytes.length; i++) {
-			codes[i] = bytes[i];
+	/**
+	 * Writes all commands at once and then reads one response per command, in order, using the gogo prompt that
+	 * follows each command's output as the separator.
+	 *
+	 * @throws CommandsNotSentException if the portal had already closed the connection, so none of the commands
+	 *         were written
+	 */
+	public List<String> sendAll(List<String> commands) throws IOException {
+		if (commands.isEmpty()) {
+			return Collections.emptyList();
 		}
 
-		codes[bytes.length] = '\r';
-		codes[bytes.length + 1] = '\n';
+		if (_isClosedByPeer()) {
+			throw new CommandsNotSentException("Gogo shell connection was closed by the portal");
+		}
 
-		_sendCommand(codes);
+		ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
 
-		return _readUntilNextGogoPrompt();
-	}
+		for (String command : commands) {
+			byte[] bytes = command.getBytes(StandardCharsets.UTF_8);
 
-	private static void _assertCond(boolean condition) {
-		if (!condition) {
-			throw new AssertionError();
+			byteArrayOutputStream.write(bytes, 0, bytes.length);
+			byteArrayOutputStream.write('\r');
+			byteArrayOutputStream.write('\n');
 		}
+
+		_write(byteArrayOutputStream.toByteArray());
+
+		List<String> responses = new ArrayList<>(commands.size());
+
+		for (int i = 0; i < commands.size(); i++) {
+			responses.add(_readUntilNextGogoPrompt());
+		}
+
+		return responses;
 	}
 
-	private static int[] _toIntArray(List<Integer> list) {
-		int[] ret = new int[list.size()];
-		int i = 0;
+	/**
+	 * Thrown when none of the commands reached the portal, so sending them again cannot run any of them twice.
+	 */
+	@SuppressWarnings("serial")
+	public static class CommandsNotSentException extends IOException {
 
-		for (Integer e : list) {
-			ret[i++] = e.intValue();
+		public CommandsNotSentException(String message) {
+			super(message);
 		}
 
-		return ret;
+	}
+
+	private static void _assertCond(boolean condition) {
+		if (!condition) {
+			throw new AssertionError();
+		}
 	}
 
 	private void _handshake() throws IOException {
@@ -114,91 +167,138 @@ public class GogoTelnetClient implements AutoCloseable {
 		_readUntilNextGogoPrompt();
 	}
 
-	private int[] _readOneCommand() throws IOException {
-		List<Integer> bytes = new ArrayList<>();
+	/**
+	 * Peeks at the connection without consuming any output. Waits at most one millisecond, since an open connection
+	 * has nothing to read between commands.
+	 */
+	private boolean _isClosedByPeer() throws IOException {
+		if (_inputStream.available() > 0) {
+			return false;
+		}
 
-		int iac = _inputStream.read();
+		_socket.setSoTimeout(1);
 
-		_assertCond(iac == 255);
+		try {
+			_inputStream.mark(1);
 
-		bytes.add(iac);
+			if (_inputStream.read() == -1) {
+				return true;
+			}
 
-		int second = _inputStream.read();
+			_inputStream.reset();
 
-		bytes.add(second);
+			return false;
+		}
+		catch (SocketTimeoutException ste) {
+			return false;
+		}
+		catch (IOException ioe) {
+			return true;
+		}
+		finally {
+			_socket.setSoTimeout(_readTimeout);
+		}
+	}
+
+	private int _read() throws IOException {
+		return _inputStream.read();
+	}
+
+	private void _readOneCommand() throws IOException {
+		int iac = _read();
+
+		_assertCond(iac == 255);
+
+		int second = _read();
 
 		if (second == 250) {
 
 			// SB
 
-			int option = _inputStream.read();
-
-			bytes.add(option);
+			_read();
 
 			// 1 or 0
 
-			int code = _inputStream.read();
+			int code = _read();
 
 			_assertCond((code == 0) || (code == 1));
 
-			bytes.add(code);
-
 			if (code == 0) {
 				throw new IllegalStateException();
 			}
-			else if (code == 1) {
-				iac = _inputStream.read();
-
-				_assertCond(iac == 255);
 
-				bytes.add(iac);
+			iac = _read();
 
-				// SE
+			_assertCond(iac == 255);
 
-				int se = _inputStream.read();
+			// SE
 
-				_assertCond(se == 240);
+			int se = _read();
 
-				bytes.add(se);
-			}
+			_assertCond(se == 240);
 		}
 		else {
-			bytes.add(_inputStream.read());
+			_read();
 		}
-
-		return _toIntArray(bytes);
 	}
 
 	private String _readUntilNextGogoPrompt() throws IOException {
-		StringBuilder sb = new StringBuilder();
-
-		int c = _inputStream.read();
+		ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
 
-		while (c != -1) {
-			sb.append((char)c);
+		int matched = 0;
 
-			String str = sb.toString();
+		while (matched < _PROMPT.length) {
+			int c = _read();
 
-			if (str.endsWith("g! ")) {
-				break;
+			if (c == -1) {
+				throw new EOFException("Gogo shell connection closed before the next prompt");
 			}
 
-			c = _inputStream.read();
+			byteArrayOutputStream.write(c);
+
+			// the prompt has no repeated prefix so a mismatch can only restart the match at its first byte
+
+			if (c == _PROMPT[matched]) {
+				matched++;
+			}
+			else if (c == _PROMPT[0]) {
+				matched = 1;
+			}
+			else {
+				matched = 0;
+			}
 		}
 
-		String output = sb.substring(0, sb.length() - 3);
+		byte[] bytes = byteArrayOutputStream.toByteArray();
+
+		String output = new String(bytes, 0, bytes.length - _PROMPT.length, StandardCharsets.UTF_8);
 
 		return output.trim();
 	}
 
 	private void _sendCommand(int... codes) throws IOException {
-		for (int code : codes) {
-			_outputStream.write(code);
+		byte[] bytes = new byte[codes.length];
+
+		for (int i = 0; i < codes.length; i++) {
+			bytes[i] = (byte)codes[i];
 		}
+
+		_write(bytes);
 	}
 
-	private final DataInputStream _inputStream;
-	private final DataOutputStream _outputStream;
+	private void _write(byte[] bytes) throws IOException {
+		_outputStream.write(bytes);
+
+		_outputStream.flush();
+	}
+
+	private static final int _DEFAULT_READ_TIMEOUT = 10000;
+
+	private static final byte[] _PROMPT = {'g', '!', ' '};
+
+	private final InputStream _inputStream;
+	private final OutputStream _outputStream;
+	private final int _readTimeout;
 	private final Socket _socket;
 
 }
\ No newline at end of file
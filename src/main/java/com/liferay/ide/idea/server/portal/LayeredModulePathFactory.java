@@ -16,23 +16,26 @@ package com.liferay.ide.idea.server.portal;
 
 import com.liferay.ide.idea.util.FileUtil;
 
-import java.io.Closeable;
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.Reader;
 
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * @author Brian Stansberry
@@ -54,103 +57,132 @@ public class LayeredModulePathFactory {
 	 * @param path the module path
 	 */
 	public static void loadOverlays(File layeringRoot, List<File> path) {
-		File overlays = new File(layeringRoot, _OVERLAYS);
+		_loadOverlays(layeringRoot, path, new ArrayList<>());
+	}
 
-		if (FileUtil.exist(overlays)) {
-			File refs = new File(overlays, _OVERLAYS);
+	public static List<String> readRefs(File file) throws IOException {
+		if (FileUtil.notExists(file)) {
+			return Collections.emptyList();
+		}
 
-			if (FileUtil.exist(refs)) {
-				try {
-					for (String overlay : readRefs(refs)) {
-						File root = new File(overlays, overlay);
+		try (BufferedReader bufferedReader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+			return _readRefs(bufferedReader);
+		}
+	}
 
-						path.add(root);
-					}
-				}
-				catch (IOException ioe) {
-					throw new RuntimeException(ioe);
-				}
-			}
+	public static List<String> readRefs(InputStream is) throws IOException {
+		return _readRefs(new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8)));
+	}
+
+	/**
+	 * Inspects each element in the given {@code modulePath} to see if it includes a {@code layers.conf} file
+	 * and/or a standard directory structure with child directories {@code system/layers} and, optionally,
+	 * {@code system/add-ons}. If so, the layers identified in {@code layers.conf} are added to the module path
+	 *
+	 * @param modulePath the filesystem locations that make up the standard module path, each of which is to be
+	 *                   checked for the presence of layers and add-ons
+	 *
+	 * @return a new module path, including any layers and add-ons, if found
+	 */
+	public static File[] resolveLayeredModulePath(File... modulePath) {
+		List<File> key = Arrays.asList(modulePath.clone());
+
+		LayeredModulePath layeredModulePath = _layeredModulePaths.get(key);
+
+		if ((layeredModulePath == null) || !layeredModulePath._isUpToDate()) {
+			List<File> inputFiles = new ArrayList<>();
+
+			layeredModulePath = new LayeredModulePath(_resolveLayeredModulePath(modulePath, inputFiles), inputFiles);
+
+			_layeredModulePaths.put(key, layeredModulePath);
 		}
 
-		path.add(layeringRoot);
+		return layeredModulePath._getFiles();
 	}
 
-	public static boolean readLine(InputStream is, StringBuffer buffer) throws IOException {
-		buffer.setLength(0);
-		int c;
+	private static File[] _getFiles(File modulesFolder, Path moduleRelativePath, FilenameFilter filter) {
+		File[] layeredPaths = resolveLayeredModulePath(modulesFolder);
+
+		for (File layeredFile : layeredPaths) {
+			Path lay = FileUtil.getPath(layeredFile.getAbsolutePath());
 
-		while (true) {
-			c = is.read();
+			Path relativeLayPath = FileUtil.pathAppend(lay, moduleRelativePath.toString());
 
-			switch (c) {
-				case '\t':
-				case '\r':
+			File layeredPath = new File(relativeLayPath.toUri());
 
-					break;
-				case -1:
-					return false;
-				case '\n':
-					return true;
-				default:
-					buffer.append((char)c);
+			if (FileUtil.exist(layeredPath)) {
+				return layeredPath.listFiles(filter);
 			}
 		}
+
+		return new File[0];
 	}
 
-	public static List<String> readRefs(File file) throws IOException {
-		if (FileUtil.notExists(file)) {
-			return Collections.emptyList();
+	private static LayersConfig _getLayersConfig(File repoRoot) {
+		File layersList = new File(repoRoot, "layers.conf");
+
+		if (FileUtil.notExists(layersList)) {
+			return new LayersConfig();
 		}
 
-		InputStream is = Files.newInputStream(file.toPath());
+		try (BufferedReader bufferedReader = Files.newBufferedReader(layersList.toPath(), StandardCharsets.UTF_8)) {
+			Properties props = new Properties();
+
+			props.load(bufferedReader);
 
-		try {
-			return readRefs(is);
+			return new LayersConfig(props);
+		}
+		catch (IOException ioe) {
+			throw new RuntimeException(ioe);
 		}
-		finally {
-			if (is != null) {
+	}
+
+	private static void _loadOverlays(File layeringRoot, List<File> path, List<File> inputFiles) {
+		File overlays = new File(layeringRoot, _OVERLAYS);
+
+		inputFiles.add(overlays);
+
+		if (FileUtil.exist(overlays)) {
+			File refs = new File(overlays, _OVERLAYS);
+
+			inputFiles.add(refs);
+
+			if (FileUtil.exist(refs)) {
 				try {
-					is.close();
+					for (String overlay : readRefs(refs)) {
+						File root = new File(overlays, overlay);
+
+						path.add(root);
+					}
 				}
-				catch (Exception e) {
-					throw new RuntimeException(e);
+				catch (IOException ioe) {
+					throw new RuntimeException(ioe);
 				}
 			}
 		}
+
+		path.add(layeringRoot);
 	}
 
-	public static List<String> readRefs(InputStream is) throws IOException {
+	private static List<String> _readRefs(BufferedReader bufferedReader) throws IOException {
 		List<String> refs = new ArrayList<>();
-		StringBuffer buffer = new StringBuffer();
 
-		do {
-			if (buffer.length() > 0) {
-				String bs = buffer.toString();
+		String line;
 
-				String ref = bs.trim();
+		while ((line = bufferedReader.readLine()) != null) {
+			line = line.replace("\t", "");
 
-				if (ref.length() > 0) {
-					refs.add(ref);
-				}
+			String ref = line.trim();
+
+			if (ref.length() > 0) {
+				refs.add(ref);
 			}
 		}
-		while (readLine(is, buffer));
 
 		return refs;
 	}
 
-	/**
-	 * Inspects each element in the given {@code modulePath} to see if it includes a {@code layers.conf} file
-	 * and/or a standard directory structure with child directories {@code system/layers} and, optionally,
-	 * {@code system/add-ons}. If so, the layers identified in {@code layers.conf} are added to the module path
-	 *
-	 * @param modulePath the filesystem locations that make up the standard module path, each of which is to be
-	 *                   checked for the presence of layers and add-ons
-	 *
-	 * @return a new module path, including any layers and add-ons, if found
-	 */
-	public static File[] resolveLayeredModulePath(File... modulePath) {
+	private static File[] _resolveLayeredModulePath(File[] modulePath, List<File> inputFiles) {
 		boolean foundLayers = false;
 		List<File> layeredPath = new ArrayList<>();
 
@@ -160,10 +192,15 @@ public class LayeredModulePathFactory {
 
 			layeredPath.add(file);
 
+			inputFiles.add(file);
+			inputFiles.add(new File(file, "layers.conf"));
+
 			LayersConfig layersConfig = _getLayersConfig(file);
 
 			File layersDir = new File(file, layersConfig._getLayersPath());
 
+			inputFiles.add(layersDir);
+
 			if (FileUtil.notExists(layersDir)) {
 				if (layersConfig._isConfigured()) {
 
@@ -183,6 +220,8 @@ public class LayeredModulePathFactory {
 			for (String layerName : layersConfig._getLayers()) {
 				File layer = new File(layersDir, layerName);
 
+				inputFiles.add(layer);
+
 				if (FileUtil.notExists(layer)) {
 					if (layersConfig._isConfigured()) {
 
@@ -199,7 +238,7 @@ public class LayeredModulePathFactory {
 					break;
 				}
 
-				loadOverlays(layer, layerFiles);
+				_loadOverlays(layer, layerFiles, inputFiles);
 			}
 
 			if (validLayers) {
@@ -208,14 +247,18 @@ public class LayeredModulePathFactory {
 
 				// Now add-ons
 
-				File[] addOns = new File(
-					file, layersConfig._getAddOnsPath()
-				).listFiles();
+				File addOnsDir = new File(file, layersConfig._getAddOnsPath());
+
+				inputFiles.add(addOnsDir);
+
+				File[] addOns = addOnsDir.listFiles();
 
 				if (addOns != null) {
 					for (File addOn : addOns) {
 						if (addOn.isDirectory()) {
-							loadOverlays(addOn, layeredPath);
+							inputFiles.add(addOn);
+
+							_loadOverlays(addOn, layeredPath, inputFiles);
 						}
 					}
 				}
@@ -229,62 +272,42 @@ public class LayeredModulePathFactory {
 		return modulePath;
 	}
 
-	public static void safeClose(Closeable closeable) {
-		if (closeable != null) {
-			try {
-				closeable.close();
-			}
-			catch (Throwable ignored) {
-			}
-		}
-	}
-
-	private static File[] _getFiles(File modulesFolder, Path moduleRelativePath, FilenameFilter filter) {
-		File[] layeredPaths = resolveLayeredModulePath(modulesFolder);
+	private static final String _OVERLAYS = ".overlays";
 
-		for (File layeredFile : layeredPaths) {
-			Path lay = FileUtil.getPath(layeredFile.getAbsolutePath());
+	private static final ConcurrentMap<List<File>, LayeredModulePath> _layeredModulePaths = new ConcurrentHashMap<>();
 
-			Path relativeLayPath = FileUtil.pathAppend(lay, moduleRelativePath.toString());
+	private static class LayeredModulePath {
 
-			File layeredPath = new File(relativeLayPath.toUri());
+		private LayeredModulePath(File[] files, List<File> inputFiles) {
+			_files = files;
+			_inputFiles = inputFiles.toArray(new File[0]);
+			_lastModifieds = new long[_inputFiles.length];
 
-			if (FileUtil.exist(layeredPath)) {
-				return layeredPath.listFiles(filter);
+			for (int i = 0; i < _inputFiles.length; i++) {
+				_lastModifieds[i] = _inputFiles[i].lastModified();
 			}
 		}
 
-		return new File[0];
-	}
-
-	private static LayersConfig _getLayersConfig(File repoRoot) {
-		File layersList = new File(repoRoot, "layers.conf");
-
-		if (FileUtil.notExists(layersList)) {
-			return new LayersConfig();
+		private File[] _getFiles() {
+			return _files.clone();
 		}
 
-		Reader reader = null;
-
-		try (InputStream inputStream = Files.newInputStream(layersList.toPath())) {
-			reader = new InputStreamReader(inputStream, "UTF-8");
+		private boolean _isUpToDate() {
+			for (int i = 0; i < _inputFiles.length; i++) {
+				if (_inputFiles[i].lastModified() != _lastModifieds[i]) {
+					return false;
+				}
+			}
 
-			Properties props = new Properties();
+			return true;
+		}
 
-			props.load(reader);
+		private final File[] _files;
+		private final File[] _inputFiles;
+		private final long[] _lastModifieds;
 
-			return new LayersConfig(props);
-		}
-		catch (IOException ioe) {
-			throw new RuntimeException(ioe);
-		}
-		finally {
-			safeClose(reader);
-		}
 	}
 
-	private static final String _OVERLAYS = ".overlays";
-
 	private static class LayersConfig {
 
 		private LayersConfig() {
@@ -0,0 +1,434 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.server.portal;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Lists and extracts the OSGi bundles of a Liferay home, including the bundles packaged inside the marketplace lpkg
+ * files. Only the central directory of every lpkg is read, all stale lpkg files are read in parallel, and the result
+ * is kept until the lpkg file is modified. Bundles stored without compression are extracted with a channel transfer
+ * instead of being copied through the heap.
+ *
+ * @author Simon Jiang
+ */
+public class PortalBundleContentIndex {
+
+	@NotNull
+	public static PortalBundleContentIndex getInstance(@NotNull File liferayHome) {
+		File absoluteFile = liferayHome.getAbsoluteFile();
+
+		return _portalBundleContentIndexes.computeIfAbsent(
+			absoluteFile.toPath(), path -> new PortalBundleContentIndex(path));
+	}
+
+	public PortalBundleContentIndex(@NotNull Path liferayHome) {
+		_liferayHome = liferayHome;
+	}
+
+	/**
+	 * Extracts a bundle from the marketplace lpkg files.
+	 *
+	 * @return the extracted file, or <code>null</code> if no lpkg contains the bundle
+	 */
+	@Nullable
+	public File extractLpkgBundle(@NotNull String bundleName, @NotNull File destination) throws IOException {
+		LpkgEntry lpkgEntry = _findLpkgEntry(bundleName);
+
+		if (lpkgEntry == null) {
+			return null;
+		}
+
+		Path destinationPath = destination.toPath();
+
+		Files.createDirectories(destinationPath.getParent());
+
+		if ((lpkgEntry._method == ZipEntry.STORED) && (lpkgEntry._localHeaderOffset >= 0)) {
+			_transfer(lpkgEntry, destinationPath);
+		}
+		else {
+			try (ZipFile zipFile = new ZipFile(lpkgEntry._lpkgPath.toFile())) {
+				ZipEntry zipEntry = zipFile.getEntry(lpkgEntry._name);
+
+				if (zipEntry == null) {
+					return null;
+				}
+
+				try (InputStream inputStream = zipFile.getInputStream(zipEntry)) {
+					Files.copy(inputStream, destinationPath, StandardCopyOption.REPLACE_EXISTING);
+				}
+			}
+		}
+
+		return destination;
+	}
+
+	/**
+	 * @return the file names of the bundles in the OSGi directories followed by the jar entries of the marketplace
+	 *         lpkg files
+	 */
+	@NotNull
+	public List<String> getBundleNames() {
+		List<String> bundleNames = new ArrayList<>();
+
+		Path osgiPath = _liferayHome.resolve("osgi");
+
+		for (String osgiBundleDir : _OSGI_BUNDLE_DIRS) {
+			Path osgiBundlePath = osgiPath.resolve(osgiBundleDir);
+
+			File osgiBundleDirFile = osgiBundlePath.toFile();
+
+			File[] files = osgiBundleDirFile.listFiles((dir, name) -> name.endsWith(".jar"));
+
+			if (files != null) {
+				for (File file : files) {
+					bundleNames.add(file.getName());
+				}
+			}
+		}
+
+		for (LpkgContent lpkgContent : _getLpkgContents()) {
+			bundleNames.addAll(lpkgContent._entries.keySet());
+		}
+
+		return bundleNames;
+	}
+
+	@NotNull
+	public File[] getLpkgFiles() {
+		Path marketplacePath = _liferayHome.resolve("osgi/marketplace");
+
+		File marketplaceDir = marketplacePath.toFile();
+
+		File[] lpkgFiles = marketplaceDir.listFiles((dir, name) -> name.endsWith(".lpkg"));
+
+		if (lpkgFiles == null) {
+			return new File[0];
+		}
+
+		Arrays.sort(lpkgFiles);
+
+		return lpkgFiles;
+	}
+
+	@NotNull
+	private static LpkgContent _readLpkgContent(@NotNull Path lpkgPath, long lastModified) {
+		Map<String, LpkgEntry> entries;
+
+		try {
+			entries = _readCentralDirectory(lpkgPath);
+		}
+		catch (ZipException ze) {
+			entries = _readZipFile(lpkgPath);
+		}
+		catch (IOException ioe) {
+			entries = Collections.emptyMap();
+		}
+
+		return new LpkgContent(lastModified, entries);
+	}
+
+	/**
+	 * Reads the jar entries from the central directory of a zip file mapped into memory. Throws a {@link
+	 * ZipException} for ZIP64 archives, which are then read by {@link ZipFile}.
+	 */
+	@NotNull
+	private static Map<String, LpkgEntry> _readCentralDirectory(@NotNull Path lpkgPath) throws IOException {
+		Map<String, LpkgEntry> entries = new LinkedHashMap<>();
+
+		try (FileChannel fileChannel = FileChannel.open(lpkgPath, StandardOpenOption.READ)) {
+			long size = fileChannel.size();
+
+			if (size < _END_OF_CENTRAL_DIRECTORY_LENGTH) {
+				throw new ZipException("Invalid lpkg " + lpkgPath);
+			}
+
+			int tailLength = (int)Math.min(size, _END_OF_CENTRAL_DIRECTORY_LENGTH + 0xFFFF);
+
+			MappedByteBuffer tail = fileChannel.map(FileChannel.MapMode.READ_ONLY, size - tailLength, tailLength);
+
+			tail.order(ByteOrder.LITTLE_ENDIAN);
+
+			int position = tailLength - _END_OF_CENTRAL_DIRECTORY_LENGTH;
+
+			while ((position >= 0) && (tail.getInt(position) != _END_OF_CENTRAL_DIRECTORY_SIGNATURE)) {
+				position--;
+			}
+
+			if (position < 0) {
+				throw new ZipException("Missing central directory in " + lpkgPath);
+			}
+
+			int entryCount = tail.getShort(position + 10) & 0xFFFF;
+			long centralDirectorySize = tail.getInt(position + 12) & 0xFFFFFFFFL;
+			long centralDirectoryOffset = tail.getInt(position + 16) & 0xFFFFFFFFL;
+
+			if ((entryCount == 0xFFFF) || (centralDirectoryOffset == 0xFFFFFFFFL) ||
+				(centralDirectoryOffset + centralDirectorySize > size)) {
+
+				throw new ZipException("Unsupported central directory in " + lpkgPath);
+			}
+
+			MappedByteBuffer centralDirectory = fileChannel.map(
+				FileChannel.MapMode.READ_ONLY, centralDirectoryOffset, centralDirectorySize);
+
+			centralDirectory.order(ByteOrder.LITTLE_ENDIAN);
+
+			position = 0;
+
+			for (int i = 0; i < entryCount; i++) {
+				if (centralDirectory.getInt(position) != _CENTRAL_DIRECTORY_SIGNATURE) {
+					throw new ZipException("Invalid central directory in " + lpkgPath);
+				}
+
+				int method = centralDirectory.getShort(position + 10) & 0xFFFF;
+				long compressedSize = centralDirectory.getInt(position + 20) & 0xFFFFFFFFL;
+				int nameLength = centralDirectory.getShort(position + 28) & 0xFFFF;
+				int extraLength = centralDirectory.getShort(position + 30) & 0xFFFF;
+				int commentLength = centralDirectory.getShort(position + 32) & 0xFFFF;
+				long localHeaderOffset = centralDirectory.getInt(position + 42) & 0xFFFFFFFFL;
+
+				byte[] nameBytes = new byte[nameLength];
+
+				centralDirectory.position(position + _CENTRAL_DIRECTORY_HEADER_LENGTH);
+
+				centralDirectory.get(nameBytes);
+
+				String name = new String(nameBytes, StandardCharsets.UTF_8);
+
+				if (name.endsWith(".jar")) {
+					entries.put(name, new LpkgEntry(lpkgPath, name, method, compressedSize, localHeaderOffset));
+				}
+
+				position += _CENTRAL_DIRECTORY_HEADER_LENGTH + nameLength + extraLength + commentLength;
+			}
+		}
+
+		return entries;
+	}
+
+	@NotNull
+	private static Map<String, LpkgEntry> _readZipFile(@NotNull Path lpkgPath) {
+		Map<String, LpkgEntry> entries = new LinkedHashMap<>();
+
+		try (ZipFile zipFile = new ZipFile(lpkgPath.toFile())) {
+			Enumeration<? extends ZipEntry> zipEntries = zipFile.entries();
+
+			while (zipEntries.hasMoreElements()) {
+				ZipEntry zipEntry = zipEntries.nextElement();
+
+				String name = zipEntry.getName();
+
+				if (name.endsWith(".jar")) {
+					entries.put(name, new LpkgEntry(lpkgPath, name, zipEntry.getMethod(), zipEntry.getSize(), -1));
+				}
+			}
+		}
+		catch (IOException ioe) {
+		}
+
+		return entries;
+	}
+
+	private static void _transfer(@NotNull LpkgEntry lpkgEntry, @NotNull Path destinationPath) throws IOException {
+		try (FileChannel inputFileChannel = FileChannel.open(lpkgEntry._lpkgPath, StandardOpenOption.READ);
+			FileChannel outputFileChannel = FileChannel.open(
+				destinationPath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+				StandardOpenOption.WRITE)) {
+
+			ByteBuffer localHeader = ByteBuffer.allocate(_LOCAL_HEADER_LENGTH);
+
+			localHeader.order(ByteOrder.LITTLE_ENDIAN);
+
+			while (localHeader.hasRemaining()) {
+				if (inputFileChannel.read(
+						localHeader, lpkgEntry._localHeaderOffset + localHeader.position()) < 0) {
+
+					throw new ZipException("Truncated local header of " + lpkgEntry._name);
+				}
+			}
+
+			if (localHeader.getInt(0) != _LOCAL_HEADER_SIGNATURE) {
+				throw new ZipException("Invalid local header of " + lpkgEntry._name);
+			}
+
+			int nameLength = localHeader.getShort(26) & 0xFFFF;
+			int extraLength = localHeader.getShort(28) & 0xFFFF;
+
+			long dataOffset = lpkgEntry._localHeaderOffset + _LOCAL_HEADER_LENGTH + nameLength + extraLength;
+
+			long transferred = 0;
+
+			while (transferred < lpkgEntry._size) {
+				long count = inputFileChannel.transferTo(
+					dataOffset + transferred, lpkgEntry._size - transferred, outputFileChannel);
+
+				if (count <= 0) {
+					throw new ZipException("Truncated data of " + lpkgEntry._name);
+				}
+
+				transferred += count;
+			}
+		}
+	}
+
+	@Nullable
+	private LpkgEntry _findLpkgEntry(@NotNull String bundleName) {
+		List<LpkgContent> lpkgContents = _getLpkgContents();
+
+		for (LpkgContent lpkgContent : lpkgContents) {
+			LpkgEntry lpkgEntry = lpkgContent._entries.get(bundleName);
+
+			if (lpkgEntry != null) {
+				return lpkgEntry;
+			}
+		}
+
+		for (LpkgContent lpkgContent : lpkgContents) {
+			for (LpkgEntry lpkgEntry : lpkgContent._entries.values()) {
+				if (lpkgEntry._name.contains(bundleName)) {
+					return lpkgEntry;
+				}
+			}
+		}
+
+		return null;
+	}
+
+	@NotNull
+	private List<LpkgContent> _getLpkgContents() {
+		File[] lpkgFiles = getLpkgFiles();
+
+		List<Path> lpkgPaths = new ArrayList<>();
+
+		for (File lpkgFile : lpkgFiles) {
+			lpkgPaths.add(lpkgFile.toPath());
+		}
+
+		Set<Path> cachedLpkgPaths = _lpkgContents.keySet();
+
+		cachedLpkgPaths.retainAll(lpkgPaths);
+
+		Stream<Path> stream = lpkgPaths.parallelStream();
+
+		stream.forEach(
+			lpkgPath -> {
+				File lpkgFile = lpkgPath.toFile();
+
+				long lastModified = lpkgFile.lastModified();
+
+				LpkgContent lpkgContent = _lpkgContents.get(lpkgPath);
+
+				if ((lpkgContent == null) || (lpkgContent._lastModified != lastModified)) {
+					_lpkgContents.put(lpkgPath, _readLpkgContent(lpkgPath, lastModified));
+				}
+			});
+
+		List<LpkgContent> lpkgContents = new ArrayList<>();
+
+		for (Path lpkgPath : lpkgPaths) {
+			LpkgContent lpkgContent = _lpkgContents.get(lpkgPath);
+
+			if (lpkgContent != null) {
+				lpkgContents.add(lpkgContent);
+			}
+		}
+
+		return lpkgContents;
+	}
+
+	private static final int _CENTRAL_DIRECTORY_HEADER_LENGTH = 46;
+
+	private static final int _CENTRAL_DIRECTORY_SIGNATURE = 0x02014b50;
+
+	private static final int _END_OF_CENTRAL_DIRECTORY_LENGTH = 22;
+
+	private static final int _END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+
+	private static final int _LOCAL_HEADER_LENGTH = 30;
+
+	private static final int _LOCAL_HEADER_SIGNATURE = 0x04034b50;
+
+	private static final String[] _OSGI_BUNDLE_DIRS = {"core", "modules", "portal", "static"};
+
+	private static final ConcurrentMap<Path, PortalBundleContentIndex> _portalBundleContentIndexes =
+		new ConcurrentHashMap<>();
+
+	private final Path _liferayHome;
+	private final ConcurrentMap<Path, LpkgContent> _lpkgContents = new ConcurrentHashMap<>();
+
+	private static class LpkgContent {
+
+		public LpkgContent(long lastModified, @NotNull Map<String, LpkgEntry> entries) {
+			_lastModified = lastModified;
+			_entries = entries;
+		}
+
+		private final Map<String, LpkgEntry> _entries;
+		private final long _lastModified;
+
+	}
+
+	private static class LpkgEntry {
+
+		public LpkgEntry(
+			@NotNull Path lpkgPath, @NotNull String name, int method, long size, long localHeaderOffset) {
+
+			_lpkgPath = lpkgPath;
+			_name = name;
+			_method = method;
+			_size = size;
+			_localHeaderOffset = localHeaderOffset;
+		}
+
+		private final long _localHeaderOffset;
+		private final Path _lpkgPath;
+		private final int _method;
+		private final String _name;
+		private final long _size;
+
+	}
+
+}
\ No newline at end of file
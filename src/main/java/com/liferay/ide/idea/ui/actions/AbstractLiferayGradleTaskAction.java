@@ -63,7 +63,7 @@ public abstract class AbstractLiferayGradleTaskAction extends AbstractLiferayAct
 		_taskName = taskName;
 	}
 
-	protected void afterTask(VirtualFile projectDir) {
+	protected void afterTask(Project project, VirtualFile projectDir) {
 	}
 
 	protected boolean continuous() {
@@ -97,7 +97,7 @@ public abstract class AbstractLiferayGradleTaskAction extends AbstractLiferayAct
 
 				@Override
 				public void onSuccess() {
-					afterTask(projectDir);
+					afterTask(project, projectDir);
 				}
 
 			},
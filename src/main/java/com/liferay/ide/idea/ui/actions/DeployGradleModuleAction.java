@@ -19,6 +19,7 @@ import com.intellij.openapi.actionSystem.AnActionEvent;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.vfs.VirtualFile;
 
+import com.liferay.ide.idea.server.gogo.GogoBundleIndex;
 import com.liferay.ide.idea.util.LiferayWorkspaceSupport;
 
 import icons.LiferayIcons;
@@ -34,6 +35,13 @@ public class DeployGradleModuleAction extends AbstractLiferayGradleTaskAction im
 		super("Deploy", "Run deploy task", LiferayIcons.LIFERAY_ICON, "deploy");
 	}
 
+	@Override
+	protected void afterTask(Project project, VirtualFile projectDir) {
+		GogoBundleIndex gogoBundleIndex = GogoBundleIndex.getInstance(project);
+
+		gogoBundleIndex.refresh();
+	}
+
 	@Override
 	protected boolean isEnabledAndVisible(AnActionEvent anActionEvent) {
 		Project project = anActionEvent.getProject();
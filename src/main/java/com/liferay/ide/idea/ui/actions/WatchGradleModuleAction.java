@@ -15,31 +15,29 @@
 package com.liferay.ide.idea.ui.actions;
 
 import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.externalSystem.service.execution.ProgressExecutionMode;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ModuleUtil;
+import com.intellij.openapi.project.DumbService;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.vfs.VirtualFile;
 
-import com.liferay.ide.idea.server.gogo.GogoTelnetClient;
+import com.liferay.ide.idea.bnd.BndBundleIndex;
+import com.liferay.ide.idea.server.gogo.GogoBundle;
+import com.liferay.ide.idea.server.gogo.GogoBundleIndex;
+import com.liferay.ide.idea.server.gogo.GogoBundleSnapshot;
+import com.liferay.ide.idea.server.gogo.GogoShellService;
 import com.liferay.ide.idea.util.GradleUtil;
 
 import icons.LiferayIcons;
 
 import java.io.File;
-import java.io.IOException;
-import java.io.InputStream;
-
-import java.nio.file.FileVisitResult;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.SimpleFileVisitor;
-import java.nio.file.attribute.BasicFileAttributes;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.Properties;
+import java.util.Map;
 
 /**
  * @author Terry Jia
@@ -57,32 +55,41 @@ public class WatchGradleModuleAction extends AbstractLiferayGradleTaskAction {
 	}
 
 	@Override
-	protected void afterTask(VirtualFile projectDir) {
-		List<Path> bndPaths = _getBndPaths(projectDir);
+	protected void afterTask(Project project, VirtualFile projectDir) {
+		DumbService dumbService = DumbService.getInstance(project);
+
+		Map<String, VirtualFile> moduleRoots = dumbService.runReadActionInSmartMode(
+			() -> BndBundleIndex.getBundleSymbolicNames(project, projectDir));
 
-		if (bndPaths.isEmpty()) {
+		if (moduleRoots.isEmpty()) {
 			return;
 		}
 
-		try (GogoTelnetClient gogoTelnetClient = new GogoTelnetClient("localhost", 11311)) {
-			for (Path bndPath : bndPaths) {
-				Properties properties = new Properties();
-
-				try (InputStream inputStream = Files.newInputStream(bndPath)) {
-					properties.load(inputStream);
-
-					String bsn = properties.getProperty("Bundle-SymbolicName");
-
-					String cmd = "uninstall " + bsn;
+		GogoBundleIndex gogoBundleIndex = GogoBundleIndex.getInstance(project);
+		GogoShellService gogoShellService = GogoShellService.getInstance(project);
 
-					gogoTelnetClient.send(cmd);
+		gogoShellService.send(
+			"lb -s"
+		).handle(
+			(output, throwable) -> {
+				if (throwable != null) {
+					return GogoBundleSnapshot.EMPTY;
 				}
-				catch (IOException ioe) {
+
+				return GogoBundleSnapshot.parse(output);
+			}
+		).thenCompose(
+			gogoBundleSnapshot -> gogoShellService.sendAll(
+				_getUninstallCommands(gogoBundleSnapshot, moduleRoots.keySet()))
+		).whenComplete(
+			(responses, throwable) -> {
+				if (throwable != null) {
+					_log.warn("Unable to uninstall the watched bundles through the gogo shell", throwable);
 				}
+
+				gogoBundleIndex.refresh();
 			}
-		}
-		catch (IOException ioe) {
-		}
+		);
 
 		File file = new File(projectDir.getCanonicalPath());
 
@@ -122,49 +129,29 @@ public class WatchGradleModuleAction extends AbstractLiferayGradleTaskAction {
 		return GradleUtil.isWatchableProject(module);
 	}
 
-	private List<Path> _getBndPaths(VirtualFile projectDir) {
-		File file = new File(projectDir.getCanonicalPath());
-
-		File bndFile = new File(file, "bnd.bnd");
-
-		List<Path> bndFiles = new ArrayList<>();
-
-		if (!bndFile.exists()) {
-			try {
-				Files.walkFileTree(
-					Paths.get(file.getPath()),
-					new SimpleFileVisitor<Path>() {
-
-						@Override
-						public FileVisitResult postVisitDirectory(Path dir, IOException e) {
-							if (new File(dir.toFile(), "bnd.bnd").exists()) {
-								return FileVisitResult.SKIP_SUBTREE;
-							}
+	/**
+	 * Uninstalls by bundle id where the fresh <code>lb -s</code> output knows the bundle and by symbolic name
+	 * otherwise, so a bundle that was reinstalled under a new id is never missed.
+	 */
+	private static List<String> _getUninstallCommands(
+		GogoBundleSnapshot gogoBundleSnapshot, Collection<String> symbolicNames) {
 
-							return FileVisitResult.CONTINUE;
-						}
+		List<String> commands = new ArrayList<>(symbolicNames.size());
 
-						@Override
-						public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
-							if (file.endsWith("bnd.bnd")) {
-								bndFiles.add(file);
+		for (String symbolicName : symbolicNames) {
+			GogoBundle gogoBundle = gogoBundleSnapshot.getBundle(symbolicName);
 
-								return FileVisitResult.SKIP_SIBLINGS;
-							}
-
-							return FileVisitResult.CONTINUE;
-						}
-
-					});
+			if (gogoBundle != null) {
+				commands.add("uninstall " + gogoBundle.getId());
 			}
-			catch (IOException ioe) {
+			else {
+				commands.add("uninstall " + symbolicName);
 			}
 		}
-		else {
-			bndFiles.add(bndFile.toPath());
-		}
 
-		return bndFiles;
+		return commands;
 	}
 
+	private static final Logger _log = Logger.getInstance(WatchGradleModuleAction.class);
+
 }
\ No newline at end of file
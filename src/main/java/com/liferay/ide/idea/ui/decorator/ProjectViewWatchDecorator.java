@@ -18,20 +18,12 @@ import com.intellij.ide.projectView.PresentationData;
 import com.intellij.ide.projectView.ProjectViewNode;
 import com.intellij.ide.projectView.ProjectViewNodeDecorator;
 import com.intellij.ide.projectView.impl.ProjectRootsUtil;
-import com.intellij.openapi.components.ServiceManager;
-import com.intellij.openapi.externalSystem.model.task.ExternalSystemTask;
-import com.intellij.openapi.externalSystem.model.task.ExternalSystemTaskState;
-import com.intellij.openapi.externalSystem.service.internal.ExternalSystemExecuteTaskTask;
-import com.intellij.openapi.externalSystem.service.internal.ExternalSystemProcessingManager;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.packageDependencies.ui.PackageDependenciesNode;
 import com.intellij.ui.ColoredTreeCellRenderer;
 
-import java.util.List;
-import java.util.stream.Stream;
-
-import org.jetbrains.plugins.gradle.util.GradleConstants;
+import com.liferay.ide.idea.core.LiferayWatchTaskService;
 
 /**
  * @author Simon Jiang
@@ -63,41 +55,19 @@ public class ProjectViewWatchDecorator implements ProjectViewNodeDecorator {
 			return;
 		}
 
-		if (ProjectRootsUtil.isModuleContentRoot(virtualFile, project)) {
-			ExternalSystemProcessingManager processingManager = ServiceManager.getService(
-				ExternalSystemProcessingManager.class);
-
-			List<ExternalSystemTask> taskList = processingManager.findTasksOfState(
-				GradleConstants.SYSTEM_ID, ExternalSystemTaskState.IN_PROGRESS);
-
-			Stream<ExternalSystemTask> taskStream = taskList.stream();
-
-			taskStream.filter(
-				task -> task instanceof ExternalSystemExecuteTaskTask
-			).map(
-				task -> (ExternalSystemExecuteTaskTask)task
-			).filter(
-				task -> {
-					List<String> tasksToExecute = task.getTasksToExecute();
-
-					return tasksToExecute.contains("watch");
-				}
-			).map(
-				ExternalSystemExecuteTaskTask::getExternalProjectPath
-			).filter(
-				externalProjectPath -> canonicalPath.equals(externalProjectPath)
-			).forEach(
-				externalProjectPath -> {
-					String existedLocationString = data.getLocationString();
-
-					if (existedLocationString != null) {
-						data.setLocationString(existedLocationString + " [watching]");
-					}
-					else {
-						data.setLocationString("[watching]");
-					}
-				}
-			);
+		LiferayWatchTaskService liferayWatchTaskService = LiferayWatchTaskService.getInstance(project);
+
+		if (liferayWatchTaskService.isWatching(canonicalPath) &&
+			ProjectRootsUtil.isModuleContentRoot(virtualFile, project)) {
+
+			String existedLocationString = data.getLocationString();
+
+			if (existedLocationString != null) {
+				data.setLocationString(existedLocationString + " [watching]");
+			}
+			else {
+				data.setLocationString("[watching]");
+			}
 		}
 	}
 
@@ -18,6 +18,9 @@ import aQute.bnd.version.Version;
 import aQute.bnd.version.VersionRange;
 
 import com.intellij.ide.util.projectWizard.ModuleWizardStep;
+import com.intellij.openapi.application.Application;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ModalityState;
 import com.intellij.openapi.options.ConfigurationException;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.project.ProjectManager;
@@ -26,25 +29,11 @@ import com.intellij.psi.impl.file.PsiDirectoryFactory;
 import com.intellij.ui.ScrollPaneFactory;
 import com.intellij.ui.treeStructure.Tree;
 
-import com.liferay.ide.idea.util.BladeCLI;
 import com.liferay.ide.idea.util.CoreUtil;
-import com.liferay.ide.idea.util.FileUtil;
 import com.liferay.ide.idea.util.LiferayWorkspaceSupport;
+import com.liferay.ide.idea.util.ProjectTemplateCatalog;
 
-import java.io.File;
-import java.io.IOException;
-import java.io.InputStream;
-
-import java.nio.file.Files;
-import java.nio.file.Path;
-
-import java.util.Enumeration;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipFile;
 
 import javax.swing.JComponent;
 import javax.swing.JPanel;
@@ -56,8 +45,6 @@ import javax.swing.tree.TreeModel;
 import javax.swing.tree.TreePath;
 import javax.swing.tree.TreeSelectionModel;
 
-import org.apache.commons.io.IOUtils;
-
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -66,8 +53,6 @@ import org.jetbrains.annotations.Nullable;
 public class LiferayModuleWizardStep extends ModuleWizardStep implements LiferayWorkspaceSupport {
 
 	public LiferayModuleWizardStep(LiferayModuleBuilder builder, Project project) {
-		_loadSupportedVersionRanges();
-
 		_builder = builder;
 		_project = project;
 
@@ -137,27 +122,7 @@ public class LiferayModuleWizardStep extends ModuleWizardStep implements Liferay
 
 		_typesPanel.add(typesScrollPane, "archetypes");
 
-		DefaultMutableTreeNode root = new DefaultMutableTreeNode("root", true);
-
-		String liferayVersion = getLiferayVersion(_project);
-
-		for (String type : BladeCLI.getProjectTemplates()) {
-			if (Objects.equals("fragment", type) || Objects.equals("modules-ext", type) ||
-				(Objects.equals("7.0", liferayVersion) && Objects.equals("social-bookmark", type))) {
-
-				continue;
-			}
-
-			DefaultMutableTreeNode node = new DefaultMutableTreeNode(type, true);
-
-			root.add(node);
-		}
-
-		TreeModel model = new DefaultTreeModel(root);
-
-		_typesTree.setModel(model);
-
-		_typesTree.setSelectionRow(0);
+		_insertProjectTemplates();
 	}
 
 	public String getClassName() {
@@ -230,9 +195,11 @@ public class LiferayModuleWizardStep extends ModuleWizardStep implements Liferay
 
 		String type = getSelectedType();
 
-		String projectTemplateName = type.replaceAll("-", ".");
+		if (_projectTemplateCatalog == null) {
+			throw new ConfigurationException("Project templates are still loading", validationTitle);
+		}
 
-		VersionRange versionRange = _projectTemplateVersionRangeMap.get(projectTemplateName);
+		VersionRange versionRange = _projectTemplateCatalog.getSupportedVersionRange(type);
 
 		boolean npm = type.startsWith("npm");
 
@@ -266,82 +233,58 @@ public class LiferayModuleWizardStep extends ModuleWizardStep implements Liferay
 		return true;
 	}
 
-	private void _loadSupportedVersionRanges() {
-		File bladeJar = BladeCLI.getBladeJar();
+	private void _addProjectTemplates(ProjectTemplateCatalog projectTemplateCatalog) {
+		_projectTemplateCatalog = projectTemplateCatalog;
 
-		if (bladeJar != null) {
-			try (ZipFile zipFile = new ZipFile(bladeJar)) {
-				Enumeration<? extends ZipEntry> entries = zipFile.entries();
-
-				while (entries.hasMoreElements()) {
-					ZipEntry entry = entries.nextElement();
-
-					String entryName = entry.getName();
-
-					if (entryName.endsWith(".jar") && entryName.startsWith("com.liferay.project.templates.")) {
-						try (InputStream in = zipFile.getInputStream(entry)) {
-							Path tempDirectory = Files.createTempDirectory("template-directory-for-blade");
-
-							File stateFile = tempDirectory.toFile();
+		DefaultMutableTreeNode root = new DefaultMutableTreeNode("root", true);
 
-							File tempFile = new File(stateFile, entryName);
+		String liferayVersion = getLiferayVersion(_project);
 
-							FileUtil.writeFile(tempFile, in);
+		for (String type : projectTemplateCatalog.getTemplateNames()) {
+			if (Objects.equals("fragment", type) || Objects.equals("modules-ext", type) ||
+				(Objects.equals("7.0", liferayVersion) && Objects.equals("social-bookmark", type))) {
 
-							try (ZipFile tempZipFile = new ZipFile(tempFile)) {
-								Enumeration<? extends ZipEntry> tempEntries = tempZipFile.entries();
+				continue;
+			}
 
-								while (tempEntries.hasMoreElements()) {
-									ZipEntry tempEntry = tempEntries.nextElement();
+			DefaultMutableTreeNode node = new DefaultMutableTreeNode(type, true);
 
-									String tempEntryName = tempEntry.getName();
+			root.add(node);
+		}
 
-									if (tempEntryName.equals("META-INF/MANIFEST.MF")) {
-										try (InputStream manifestInput = tempZipFile.getInputStream(tempEntry)) {
-											List<String> lines = IOUtils.readLines(manifestInput);
+		TreeModel model = new DefaultTreeModel(root);
 
-											for (String line : lines) {
-												String liferayVersionString = "Liferay-Versions:";
+		_typesTree.setModel(model);
 
-												if (line.startsWith(liferayVersionString)) {
-													String versionRangeValue = line.substring(
-														liferayVersionString.length());
+		_typesTree.setSelectionRow(0);
+	}
 
-													String projectTemplateName = entryName.substring(
-														"com.liferay.project.templates.".length(),
-														entryName.indexOf("-"));
+	private void _insertProjectTemplates() {
+		ProjectTemplateCatalog projectTemplateCatalog = ProjectTemplateCatalog.getCachedInstance();
 
-													_projectTemplateVersionRangeMap.put(
-														projectTemplateName, new VersionRange(versionRangeValue));
+		if (projectTemplateCatalog != null) {
+			_addProjectTemplates(projectTemplateCatalog);
 
-													break;
-												}
-											}
-										}
+			return;
+		}
 
-										break;
-									}
-								}
-							}
+		Application application = ApplicationManager.getApplication();
 
-							tempFile.delete();
+		application.executeOnPooledThread(
+			() -> {
+				ProjectTemplateCatalog loadedProjectTemplateCatalog = ProjectTemplateCatalog.getInstance();
 
-							stateFile.delete();
-						}
-					}
-				}
-			}
-			catch (IOException ioe) {
-			}
-		}
+				application.invokeLater(
+					() -> _addProjectTemplates(loadedProjectTemplateCatalog),
+					ModalityState.stateForComponent(_mainPanel));
+			});
 	}
 
-	private static Map<String, VersionRange> _projectTemplateVersionRangeMap = new HashMap<>();
-
 	private LiferayModuleBuilder _builder;
 	private JTextField _className;
 	private JPanel _mainPanel;
 	private JTextField _packageName;
+	private ProjectTemplateCatalog _projectTemplateCatalog;
 	private final Project _project;
 	private JTextField _servcieName;
 	private JPanel _typesPanel;
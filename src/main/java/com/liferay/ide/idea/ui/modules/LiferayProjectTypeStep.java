@@ -550,7 +550,7 @@ public class LiferayProjectTypeStep extends ModuleWizardStep implements Disposab
 	private List<TemplatesGroup> _fillTemplatesMap(Project project) {
 		_templatesMap.put(new TemplatesGroup(new LiferayModuleBuilder()), new ArrayList<>());
 
-		if (LiferayWorkspaceSupport.isValidGradleWorkspaceLocation(project.getBasePath())) {
+		if (LiferayWorkspaceSupport.isValidGradleWorkspaceProject(project)) {
 			_templatesMap.put(new TemplatesGroup(new LiferayModuleExtBuilder()), new ArrayList<>());
 		}
 
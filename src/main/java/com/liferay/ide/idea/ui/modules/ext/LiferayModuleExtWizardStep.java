@@ -16,16 +16,22 @@ package com.liferay.ide.idea.ui.modules.ext;
 
 import com.intellij.ide.util.projectWizard.ModuleWizardStep;
 import com.intellij.ide.util.projectWizard.WizardContext;
+import com.intellij.openapi.application.Application;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.options.ConfigurationException;
 import com.intellij.openapi.project.Project;
 import com.intellij.ui.ColoredListCellRenderer;
 import com.intellij.util.ui.UIUtil;
 
+import com.liferay.ide.idea.core.LiferayTargetPlatformDependenciesService;
 import com.liferay.ide.idea.util.CoreUtil;
 import com.liferay.ide.idea.util.LiferayWorkspaceSupport;
 
 import java.awt.event.ItemEvent;
 
+import java.util.Collections;
 import java.util.List;
 
 import javax.swing.ComboBoxEditor;
@@ -151,10 +157,8 @@ public class LiferayModuleExtWizardStep extends ModuleWizardStep implements Life
 		return s;
 	}
 
-	private void _insertOriginalModuleNames() {
-		List<String> targetPlatformArtifacts = getTargetPlatformDependencies(_project);
-
-		targetPlatformArtifacts.forEach(
+	private void _addOriginalModuleNames(List<String> targetPlatformDependencies) {
+		targetPlatformDependencies.forEach(
 			line -> {
 				String[] s = line.split(":");
 
@@ -164,6 +168,42 @@ public class LiferayModuleExtWizardStep extends ModuleWizardStep implements Life
 			});
 	}
 
+	private void _insertOriginalModuleNames() {
+		LiferayTargetPlatformDependenciesService liferayTargetPlatformDependenciesService =
+			LiferayTargetPlatformDependenciesService.getInstance(_project);
+
+		List<String> targetPlatformDependencies = liferayTargetPlatformDependenciesService.getCachedDependencies();
+
+		if (targetPlatformDependencies != null) {
+			_addOriginalModuleNames(targetPlatformDependencies);
+
+			return;
+		}
+
+		Application application = ApplicationManager.getApplication();
+
+		application.executeOnPooledThread(
+			() -> {
+				List<String> dependencies;
+
+				try {
+					dependencies = liferayTargetPlatformDependenciesService.getDependencies();
+				}
+				catch (Exception e) {
+					_log.warn("Unable to resolve target platform dependencies", e);
+
+					dependencies = Collections.emptyList();
+				}
+
+				List<String> originalModuleNames = dependencies;
+
+				application.invokeLater(
+					() -> _addOriginalModuleNames(originalModuleNames), ModalityState.stateForComponent(_mainPanel));
+			});
+	}
+
+	private static final Logger _log = Logger.getInstance(LiferayModuleExtWizardStep.class);
+
 	private LiferayModuleExtBuilder _liferayModuleExtBuilder;
 	private JPanel _mainPanel;
 	private JLabel _moduleNameHintLabel;
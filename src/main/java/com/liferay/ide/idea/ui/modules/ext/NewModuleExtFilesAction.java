@@ -31,6 +31,8 @@ import com.intellij.openapi.ui.DialogWrapper;
 import com.intellij.openapi.vfs.VfsUtil;
 import com.intellij.openapi.vfs.VirtualFile;
 
+import com.liferay.ide.idea.core.LiferayTargetPlatformArtifacts;
+import com.liferay.ide.idea.core.LiferayTargetPlatformArtifactsService;
 import com.liferay.ide.idea.core.MessagesBundle;
 import com.liferay.ide.idea.ui.compoments.FixedSizeRefreshButton;
 import com.liferay.ide.idea.util.GradleDependency;
@@ -140,10 +142,15 @@ public class NewModuleExtFilesAction extends AnAction implements DumbAware, Life
 
 		private void _getLibraryData() {
 			try {
-				List<LibraryData> targetPlatformArtifacts = LiferayWorkspaceSupport.getTargetPlatformArtifacts(
-					_project);
+				LiferayTargetPlatformArtifactsService liferayTargetPlatformArtifactsService =
+					LiferayTargetPlatformArtifactsService.getInstance(_project);
 
-				if (targetPlatformArtifacts.isEmpty()) {
+				LiferayTargetPlatformArtifacts targetPlatformArtifacts =
+					liferayTargetPlatformArtifactsService.getTargetPlatformArtifacts();
+
+				List<LibraryData> artifacts = targetPlatformArtifacts.getArtifacts();
+
+				if (artifacts.isEmpty()) {
 					return;
 				}
 
@@ -156,15 +163,7 @@ public class NewModuleExtFilesAction extends AnAction implements DumbAware, Life
 				if (!originalModules.isEmpty()) {
 					GradleDependency gradleDependency = originalModules.get(0);
 
-					String artifact = gradleDependency.getName();
-
-					for (LibraryData lib : targetPlatformArtifacts) {
-						if (artifact.equals(lib.getArtifactId())) {
-							_libraryData = lib;
-
-							break;
-						}
-					}
+					_libraryData = targetPlatformArtifacts.getArtifact(gradleDependency.getName());
 				}
 			}
 			catch (IOException ioe) {
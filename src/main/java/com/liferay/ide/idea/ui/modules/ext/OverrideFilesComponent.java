@@ -30,7 +30,6 @@ import com.intellij.openapi.fileChooser.FileChooserDescriptor;
 import com.intellij.openapi.options.ConfigurationException;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.Messages;
-import com.intellij.openapi.util.Pair;
 import com.intellij.openapi.vfs.LocalFileSystem;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.ui.JBColor;
@@ -50,12 +49,10 @@ import java.awt.Component;
 import java.io.File;
 import java.io.IOException;
 
-import java.nio.file.Path;
-import java.nio.file.Paths;
-
-import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.swing.DefaultListCellRenderer;
 import javax.swing.DefaultListModel;
@@ -84,44 +81,45 @@ public class OverrideFilesComponent implements LiferayWorkspaceSupport {
 
 		application.executeOnPooledThread(
 			() -> {
-				List<String> relativePaths = new ArrayList<>(listModel.getSize());
+				if (_sourceJar == null) {
+					return;
+				}
+
+				File sourceDir = new File(moduleRootVirtualFile.getPath(), "src/main/java/");
+				File resourcesDir = new File(moduleRootVirtualFile.getPath(), "src/main/resources/");
+
+				Map<String, File> entryDestDirs = new HashMap<>();
 				Enumeration<EntryDescription> elements = listModel.elements();
 
 				while (elements.hasMoreElements()) {
 					EntryDescription entry = elements.nextElement();
 
-					relativePaths.add(entry.getPresentableUrl());
+					String path = entry.getPresentableUrl();
+
+					//choose the folder where the file should go
+
+					if (path.startsWith("com/")) {
+						entryDestDirs.put(path, sourceDir);
+					}
+					else {
+						entryDestDirs.put(path, resourcesDir);
+					}
 				}
 
-				if ((_sourceJar == null) || relativePaths.isEmpty()) {
+				if (entryDestDirs.isEmpty()) {
 					return;
 				}
 
-				Path sourcePath = Paths.get(moduleRootVirtualFile.getPath(), "src/main/java/");
-				Path resourcesPath = Paths.get(moduleRootVirtualFile.getPath(), "src/main/resources/");
-
 				try {
-					ZipUtil.unzip(
-						new File(_sourceJar), sourcePath.toFile(),
-						path -> {
-							//choose the folder where the file should go
-
-							if (relativePaths.contains(path)) {
-								if (path.startsWith("com/")) {
-									return Pair.create(true, sourcePath.toFile());
-								}
+					List<File> files = ZipUtil.unzipEntries(new File(_sourceJar), entryDestDirs);
 
-								return Pair.create(true, resourcesPath.toFile());
-							}
+					LocalFileSystem localFileSystem = LocalFileSystem.getInstance();
 
-							return Pair.create(false, null);
-						});
+					localFileSystem.refreshIoFiles(files, true, false, null);
 				}
 				catch (IOException ioe) {
 					_logger.error(ioe);
 				}
-
-				moduleRootVirtualFile.refresh(true, true);
 			});
 	}
 
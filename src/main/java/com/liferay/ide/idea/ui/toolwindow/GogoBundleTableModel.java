@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.ui.toolwindow;
+
+import com.liferay.ide.idea.server.gogo.GogoBundle;
+import com.liferay.ide.idea.server.gogo.GogoBundleSnapshot;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * Keeps the rows sorted by bundle id so every change in a delta touches only its own row.
+ *
+ * @author Gregory Amerson
+ */
+@SuppressWarnings("serial")
+public class GogoBundleTableModel extends AbstractTableModel {
+
+	public GogoBundleTableModel(GogoBundleSnapshot gogoBundleSnapshot) {
+		_gogoBundleSnapshot = gogoBundleSnapshot;
+
+		_rows = new ArrayList<>(gogoBundleSnapshot.getBundles());
+
+		_rows.sort(_comparator);
+	}
+
+	@Override
+	public Class<?> getColumnClass(int columnIndex) {
+		if (columnIndex == 0) {
+			return Long.class;
+		}
+
+		return String.class;
+	}
+
+	@Override
+	public int getColumnCount() {
+		return _COLUMN_NAMES.length;
+	}
+
+	@Override
+	public String getColumnName(int column) {
+		return _COLUMN_NAMES[column];
+	}
+
+	@Override
+	public int getRowCount() {
+		return _rows.size();
+	}
+
+	@Override
+	public Object getValueAt(int rowIndex, int columnIndex) {
+		GogoBundle gogoBundle = _rows.get(rowIndex);
+
+		switch (columnIndex) {
+			case 0:
+				return gogoBundle.getId();
+			case 1:
+				return gogoBundle.getState();
+			case 2:
+				return gogoBundle.getSymbolicName();
+			default:
+				return gogoBundle.getVersion();
+		}
+	}
+
+	/**
+	 * Moves the rows to the given snapshot. The rows are diffed against the snapshot they currently show, so a
+	 * snapshot that arrives after a newer one or after a missed delta still leaves the rows right.
+	 */
+	public void update(GogoBundleSnapshot gogoBundleSnapshot) {
+		if (gogoBundleSnapshot == _gogoBundleSnapshot) {
+			return;
+		}
+
+		GogoBundleSnapshot.Delta delta = gogoBundleSnapshot.diff(_gogoBundleSnapshot);
+
+		_gogoBundleSnapshot = gogoBundleSnapshot;
+
+		_applyDelta(delta);
+	}
+
+	private void _applyDelta(GogoBundleSnapshot.Delta delta) {
+		for (GogoBundle gogoBundle : delta.getRemoved()) {
+			int row = Collections.binarySearch(_rows, gogoBundle, _comparator);
+
+			if (row >= 0) {
+				_rows.remove(row);
+
+				fireTableRowsDeleted(row, row);
+			}
+		}
+
+		for (GogoBundle gogoBundle : delta.getChanged()) {
+			int row = Collections.binarySearch(_rows, gogoBundle, _comparator);
+
+			if (row >= 0) {
+				_rows.set(row, gogoBundle);
+
+				fireTableRowsUpdated(row, row);
+			}
+		}
+
+		for (GogoBundle gogoBundle : delta.getAdded()) {
+			int row = Collections.binarySearch(_rows, gogoBundle, _comparator);
+
+			if (row >= 0) {
+				_rows.set(row, gogoBundle);
+
+				fireTableRowsUpdated(row, row);
+			}
+			else {
+				row = -row - 1;
+
+				_rows.add(row, gogoBundle);
+
+				fireTableRowsInserted(row, row);
+			}
+		}
+	}
+
+	private static final String[] _COLUMN_NAMES = {"ID", "State", "Symbolic Name", "Version"};
+
+	private static final Comparator<GogoBundle> _comparator = Comparator.comparingLong(GogoBundle::getId);
+
+	private GogoBundleSnapshot _gogoBundleSnapshot;
+	private final List<GogoBundle> _rows;
+
+}
\ No newline at end of file
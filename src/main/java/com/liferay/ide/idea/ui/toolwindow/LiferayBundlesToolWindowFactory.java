@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.ui.toolwindow;
+
+import com.intellij.openapi.application.Application;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.openapi.wm.ToolWindow;
+import com.intellij.openapi.wm.ToolWindowFactory;
+import com.intellij.openapi.wm.ex.ToolWindowManagerListener;
+import com.intellij.ui.ScrollPaneFactory;
+import com.intellij.ui.content.Content;
+import com.intellij.ui.content.ContentFactory;
+import com.intellij.ui.content.ContentManager;
+import com.intellij.ui.table.JBTable;
+import com.intellij.util.messages.MessageBus;
+import com.intellij.util.messages.MessageBusConnection;
+
+import com.liferay.ide.idea.server.gogo.GogoBundleIndex;
+import com.liferay.ide.idea.server.gogo.GogoBundleIndexListener;
+import com.liferay.ide.idea.server.gogo.GogoBundleSnapshot;
+
+import javax.swing.JScrollPane;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Shows the bundles of the running portal. The gogo shell is only polled while the tool window is visible.
+ *
+ * @author Gregory Amerson
+ */
+public class LiferayBundlesToolWindowFactory implements DumbAware, ToolWindowFactory {
+
+	@Override
+	public void createToolWindowContent(@NotNull Project project, @NotNull ToolWindow toolWindow) {
+		GogoBundleTableModel gogoBundleTableModel = new GogoBundleTableModel(GogoBundleSnapshot.EMPTY);
+
+		JBTable table = new JBTable(gogoBundleTableModel);
+
+		table.setAutoCreateRowSorter(true);
+		table.setStriped(true);
+
+		JScrollPane scrollPane = ScrollPaneFactory.createScrollPane(table);
+
+		ContentFactory contentFactory = ContentFactory.SERVICE.getInstance();
+
+		Content content = contentFactory.createContent(scrollPane, "", false);
+
+		ContentManager contentManager = toolWindow.getContentManager();
+
+		contentManager.addContent(content);
+
+		MessageBus messageBus = project.getMessageBus();
+
+		MessageBusConnection messageBusConnection = messageBus.connect(content);
+
+		Application application = ApplicationManager.getApplication();
+
+		messageBusConnection.subscribe(
+			GogoBundleIndexListener.TOPIC,
+			(snapshot, delta) -> application.invokeLater(
+				() -> gogoBundleTableModel.update(snapshot), project.getDisposed()));
+
+		GogoBundleIndex gogoBundleIndex = GogoBundleIndex.getInstance(project);
+
+		// Seeded only after subscribing, so every snapshot published from here on is queued behind this one
+
+		gogoBundleTableModel.update(gogoBundleIndex.getSnapshot());
+
+		messageBusConnection.subscribe(
+			ToolWindowManagerListener.TOPIC,
+			new ToolWindowManagerListener() {
+
+				@Override
+				public void stateChanged() {
+					_updatePolling(gogoBundleIndex, toolWindow);
+				}
+
+				@Override
+				public void toolWindowRegistered(@NotNull String id) {
+				}
+
+			});
+
+		Disposer.register(content, gogoBundleIndex::stopPolling);
+
+		_updatePolling(gogoBundleIndex, toolWindow);
+	}
+
+	private static void _updatePolling(GogoBundleIndex gogoBundleIndex, ToolWindow toolWindow) {
+		if (toolWindow.isVisible()) {
+			gogoBundleIndex.startPolling();
+		}
+		else {
+			gogoBundleIndex.stopPolling();
+		}
+	}
+
+}
\ No newline at end of file
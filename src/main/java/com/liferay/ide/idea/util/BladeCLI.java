@@ -14,23 +14,39 @@
 
 package com.liferay.ide.idea.util;
 
+import com.intellij.openapi.diagnostic.Logger;
+
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintStream;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
 import java.net.JarURLConnection;
+import java.net.URI;
 import java.net.URL;
+import java.net.URLClassLoader;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
-import java.util.Scanner;
+import java.util.function.Consumer;
+import java.util.jar.Attributes;
 import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+import org.apache.tools.ant.BuildException;
 import org.apache.tools.ant.DefaultLogger;
 import org.apache.tools.ant.Project;
 import org.apache.tools.ant.taskdefs.Java;
+import org.apache.tools.ant.types.Commandline;
 
 /**
  * @author Terry Jia
@@ -38,58 +54,38 @@ import org.apache.tools.ant.taskdefs.Java;
 public class BladeCLI {
 
 	public static String[] execute(String args) {
-		Project project = new Project();
-		Java javaTask = new Java();
-
-		javaTask.setProject(project);
-		javaTask.setFork(true);
-		javaTask.setFailonerror(true);
-
-		File bladeJar = getBladeJar();
-
-		javaTask.setJar(bladeJar);
-
-		javaTask.setArgs(args);
-
-		DefaultLogger logger = new DefaultLogger();
-
-		project.addBuildListener(logger);
-
-		StringBufferOutputStream out = new StringBufferOutputStream();
-
-		logger.setOutputPrintStream(new PrintStream(out));
-
-		logger.setMessageOutputLevel(Project.MSG_INFO);
-
-		javaTask.executeJava();
-
 		List<String> lines = new ArrayList<>();
-		Scanner scanner = new Scanner(out.toString());
-
-		while (scanner.hasNextLine()) {
-			String nextLine = scanner.nextLine();
-
-			lines.add(nextLine.replaceAll(".*\\[null\\] ", ""));
-		}
 
-		scanner.close();
+		execute(args, lines::add);
 
-		boolean hasErrors = false;
+		return lines.toArray(new String[0]);
+	}
 
-		StringBuilder errors = new StringBuilder();
+	/**
+	 * Runs blade inside the IDE through a class loader that is kept for as long as the extracted blade.jar does not
+	 * change, and passes every line blade prints to <code>lineConsumer</code> as soon as it is written. Falls back to
+	 * a forked JVM if the blade.jar does not offer an embeddable entry point.
+	 *
+	 * @return <code>true</code> if blade finished without error
+	 * @throws BuildException if blade failed in a forked JVM
+	 */
+	public static boolean execute(String args, Consumer<String> lineConsumer) {
+		File bladeJar = getBladeJar();
 
-		for (String line : lines) {
-			String lineLowerCase = line.toLowerCase();
+		try {
+			Boolean success = _executeInProcess(bladeJar, Commandline.translateCommandline(args), lineConsumer);
 
-			if (lineLowerCase.startsWith("error")) {
-				hasErrors = true;
-			}
-			else if (hasErrors) {
-				errors.append(line);
+			if (success != null) {
+				return success;
 			}
 		}
+		catch (Exception e) {
+			_log.warn("Unable to run blade in process, falling back to a forked JVM", e);
+		}
 
-		return lines.toArray(new String[0]);
+		_executeForked(bladeJar, args, lineConsumer);
+
+		return true;
 	}
 
 	public static File getBladeJar() {
@@ -134,12 +130,24 @@ public class BladeCLI {
 		return bladeJar;
 	}
 
-	public static synchronized String[] getProjectTemplates() {
+	/**
+	 * @throws IOException if blade failed to list the project templates
+	 */
+	public static synchronized String[] getProjectTemplates() throws IOException {
 		List<String> templateNames = new ArrayList<>();
 
-		String[] executeResult = execute("create -l");
+		List<String> lines = new ArrayList<>();
 
-		for (String name : executeResult) {
+		try {
+			if (!execute("create -l", lines::add)) {
+				throw new IOException("Unable to list project templates: " + String.join(" ", lines));
+			}
+		}
+		catch (BuildException be) {
+			throw new IOException("Unable to list project templates", be);
+		}
+
+		for (String name : lines) {
 			String trimmedName = name.trim();
 
 			if (trimmedName.indexOf(" ") != -1) {
@@ -153,4 +161,140 @@ public class BladeCLI {
 		return templateNames.toArray(new String[0]);
 	}
 
+	private static void _executeForked(File bladeJar, String args, Consumer<String> lineConsumer) {
+		Project project = new Project();
+		Java javaTask = new Java();
+
+		javaTask.setProject(project);
+		javaTask.setFork(true);
+		javaTask.setFailonerror(true);
+
+		javaTask.setJar(bladeJar);
+
+		javaTask.setArgs(args);
+
+		DefaultLogger logger = new DefaultLogger();
+
+		project.addBuildListener(logger);
+
+		Matcher matcher = _loggerPrefixPattern.matcher("");
+
+		PrintStream printStream = new PrintStream(
+			new LineOutputStream(line -> lineConsumer.accept(matcher.reset(line).replaceAll(""))), true);
+
+		logger.setOutputPrintStream(printStream);
+
+		logger.setMessageOutputLevel(Project.MSG_INFO);
+
+		try {
+			javaTask.executeJava();
+		}
+		finally {
+			printStream.close();
+		}
+	}
+
+	/**
+	 * @return <code>null</code> if the blade.jar offers no embeddable entry point, otherwise whether blade finished
+	 *         without error
+	 */
+	private static synchronized Boolean _executeInProcess(File bladeJar, String[] args, Consumer<String> lineConsumer)
+		throws Exception {
+
+		ClassLoader classLoader = _getBladeClassLoader(bladeJar);
+
+		if (classLoader == null) {
+			return null;
+		}
+
+		Class<?> bladeClass = classLoader.loadClass(_bladeMainClassName);
+
+		Constructor<?> constructor;
+		Method runMethod;
+
+		try {
+			constructor = bladeClass.getConstructor(PrintStream.class, PrintStream.class, InputStream.class);
+			runMethod = bladeClass.getMethod("run", String[].class);
+		}
+		catch (NoSuchMethodException nsme) {
+			return null;
+		}
+
+		Thread currentThread = Thread.currentThread();
+
+		ClassLoader contextClassLoader = currentThread.getContextClassLoader();
+
+		try (PrintStream out = new PrintStream(new LineOutputStream(lineConsumer), true, "UTF-8");
+			PrintStream err = new PrintStream(new LineOutputStream(lineConsumer), true, "UTF-8");
+			InputStream in = new ByteArrayInputStream(new byte[0])) {
+
+			currentThread.setContextClassLoader(classLoader);
+
+			runMethod.invoke(constructor.newInstance(out, err, in), (Object)args);
+		}
+		catch (InvocationTargetException ite) {
+			lineConsumer.accept("Error: " + ite.getCause());
+
+			return false;
+		}
+		finally {
+			currentThread.setContextClassLoader(contextClassLoader);
+		}
+
+		return true;
+	}
+
+	private static ClassLoader _getBladeClassLoader(File bladeJar) throws IOException {
+		if (!bladeJar.isFile()) {
+			return null;
+		}
+
+		long lastModified = bladeJar.lastModified();
+
+		if ((_bladeClassLoader != null) && (_bladeJarLastModified == lastModified)) {
+			return _bladeClassLoader;
+		}
+
+		if (_bladeClassLoader != null) {
+			_bladeClassLoader.close();
+
+			_bladeClassLoader = null;
+		}
+
+		String mainClassName;
+
+		try (JarFile jarFile = new JarFile(bladeJar)) {
+			Manifest manifest = jarFile.getManifest();
+
+			if (manifest == null) {
+				return null;
+			}
+
+			Attributes attributes = manifest.getMainAttributes();
+
+			mainClassName = attributes.getValue(Attributes.Name.MAIN_CLASS);
+		}
+
+		if (mainClassName == null) {
+			return null;
+		}
+
+		URI bladeJarURI = bladeJar.toURI();
+
+		ClassLoader systemClassLoader = ClassLoader.getSystemClassLoader();
+
+		_bladeClassLoader = new URLClassLoader(new URL[] {bladeJarURI.toURL()}, systemClassLoader.getParent());
+		_bladeJarLastModified = lastModified;
+		_bladeMainClassName = mainClassName;
+
+		return _bladeClassLoader;
+	}
+
+	private static final Logger _log = Logger.getInstance(BladeCLI.class);
+	private static final Pattern _loggerPrefixPattern = Pattern.compile(".*\\[null\\] ");
+
+	private static URLClassLoader _bladeClassLoader;
+	private static long _bladeJarLastModified;
+	private static String _bladeMainClassName;
+
 }
\ No newline at end of file
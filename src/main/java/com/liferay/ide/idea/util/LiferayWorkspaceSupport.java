@@ -15,49 +15,23 @@
 package com.liferay.ide.idea.util;
 
 import com.intellij.ide.util.PropertiesComponent;
-import com.intellij.openapi.externalSystem.model.DataNode;
-import com.intellij.openapi.externalSystem.model.ExternalProjectInfo;
-import com.intellij.openapi.externalSystem.model.ProjectKeys;
-import com.intellij.openapi.externalSystem.model.project.LibraryData;
-import com.intellij.openapi.externalSystem.model.project.ProjectData;
-import com.intellij.openapi.externalSystem.service.project.ProjectDataManager;
 import com.intellij.openapi.project.Project;
-import com.intellij.openapi.projectRoots.impl.JavaHomeFinder;
-import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.openapi.vfs.LocalFileSystem;
 import com.intellij.openapi.vfs.VirtualFile;
 
-import java.io.BufferedReader;
-import java.io.ByteArrayOutputStream;
+import com.liferay.ide.idea.core.LiferayWorkspaceDetectionService;
+
 import java.io.File;
 import java.io.IOException;
-import java.io.OutputStream;
-import java.io.StringReader;
-
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
+
 import java.util.Properties;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import org.gradle.tooling.GradleConnector;
-
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import org.jetbrains.idea.maven.model.MavenPlugin;
 import org.jetbrains.idea.maven.project.MavenProject;
 import org.jetbrains.idea.maven.project.MavenProjectsManager;
-import org.jetbrains.plugins.gradle.util.GradleConstants;
 
 /**
  * @author Terry Jia
@@ -65,40 +39,6 @@ import org.jetbrains.plugins.gradle.util.GradleConstants;
  */
 public interface LiferayWorkspaceSupport {
 
-	public static List<LibraryData> getTargetPlatformArtifacts(Project project) {
-		ProjectDataManager projectDataManager = ProjectDataManager.getInstance();
-
-		Collection<ExternalProjectInfo> externalProjectInfos = projectDataManager.getExternalProjectsData(
-			project, GradleConstants.SYSTEM_ID);
-
-		for (ExternalProjectInfo externalProjectInfo : externalProjectInfos) {
-			DataNode<ProjectData> projectData = externalProjectInfo.getExternalProjectStructure();
-
-			if (projectData == null) {
-				continue;
-			}
-
-			Collection<DataNode<?>> dataNodes = projectData.getChildren();
-
-			List<LibraryData> libraryData = new ArrayList<>(dataNodes.size());
-
-			for (DataNode<?> child : dataNodes) {
-				if (!ProjectKeys.LIBRARY.equals(child.getKey())) {
-					continue;
-				}
-
-				libraryData.add((LibraryData)child.getData());
-			}
-
-			libraryData.sort(
-				Comparator.comparing(LibraryData::getArtifactId, Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER)));
-
-			return libraryData;
-		}
-
-		return Collections.emptyList();
-	}
-
 	@Nullable
 	public static VirtualFile getWorkspaceVirtualFile(@Nullable Project project) {
 		if (project == null) {
@@ -139,55 +79,36 @@ public interface LiferayWorkspaceSupport {
 	}
 
 	public static boolean isValidGradleWorkspaceProject(Project project) {
-		return isValidGradleWorkspaceLocation(project.getBasePath());
-	}
-
-	public static boolean isValidMavenWorkspaceLocation(Project project) {
 		if (project == null) {
 			return false;
 		}
 
-		try {
-			MavenProjectsManager mavenProjectsManager = MavenProjectsManager.getInstance(project);
-
-			if (!mavenProjectsManager.isMavenizedProject()) {
-				return false;
-			}
-
-			VirtualFile workspaceVirtualFile = getWorkspaceVirtualFile(project);
-
-			if (workspaceVirtualFile == null) {
-				return false;
-			}
+		LiferayWorkspaceDetectionService liferayWorkspaceDetectionService =
+			LiferayWorkspaceDetectionService.getInstance(project);
 
-			MavenProject mavenWorkspaceProject = mavenProjectsManager.findContainingProject(workspaceVirtualFile);
-
-			if (mavenWorkspaceProject == null) {
-				return false;
-			}
-
-			MavenPlugin liferayWorkspacePlugin = mavenWorkspaceProject.findPlugin(
-				"com.liferay", "com.liferay.portal.tools.bundle.support");
+		return liferayWorkspaceDetectionService.isGradleWorkspace();
+	}
 
-			if (liferayWorkspacePlugin != null) {
-				return true;
-			}
-		}
-		catch (Exception e) {
+	public static boolean isValidMavenWorkspaceLocation(Project project) {
+		if (project == null) {
 			return false;
 		}
 
-		return false;
+		LiferayWorkspaceDetectionService liferayWorkspaceDetectionService =
+			LiferayWorkspaceDetectionService.getInstance(project);
+
+		return liferayWorkspaceDetectionService.isMavenWorkspace();
 	}
 
 	public static boolean isValidWorkspaceLocation(Project project) {
-		if ((project != null) &&
-			(isValidGradleWorkspaceLocation(project.getBasePath()) || isValidMavenWorkspaceLocation(project))) {
-
-			return true;
+		if (project == null) {
+			return false;
 		}
 
-		return false;
+		LiferayWorkspaceDetectionService liferayWorkspaceDetectionService =
+			LiferayWorkspaceDetectionService.getInstance(project);
+
+		return liferayWorkspaceDetectionService.isWorkspace();
 	}
 
 	public default String getGradleProperty(String projectLocation, String key, String defaultValue) {
@@ -320,106 +241,6 @@ public interface LiferayWorkspaceSupport {
 		return localFileSystem.findFileByPath(file.getPath());
 	}
 
-	public default List<String> getTargetPlatformDependencies(Project project) {
-		String targetPlatformVersion = getTargetPlatformVersion(project);
-
-		List<String> targetPlatformDependencyList = targetPlatformDependenciesMap.get(targetPlatformVersion);
-
-		if ((targetPlatformDependencyList != null) && !targetPlatformDependencyList.isEmpty()) {
-			return targetPlatformDependencyList;
-		}
-
-		List<String> javaHomePaths = JavaHomeFinder.suggestHomePaths();
-
-		File javaHomeFile = null;
-
-		if (javaHomePaths.isEmpty()) {
-			String pathEnv = System.getenv("PATH");
-
-			String[] paths = pathEnv.split(Pattern.quote(File.pathSeparator));
-
-			for (String pathValue : paths) {
-				Path path = Paths.get(pathValue);
-
-				Path javaPath = path.resolve("java");
-
-				if (Files.exists(javaPath)) {
-					javaHomeFile = javaPath.toFile();
-
-					javaHomeFile = javaHomeFile.getParentFile();
-
-					javaHomeFile = javaHomeFile.getParentFile();
-
-					break;
-				}
-			}
-
-			if (javaHomeFile == null) {
-				javaHomeFile = new File(System.getProperty("java.home"));
-			}
-		}
-		else {
-			javaHomeFile = new File(javaHomePaths.get(0));
-		}
-
-		if (!javaHomeFile.exists()) {
-			return Collections.emptyList();
-		}
-
-		File file = new File(project.getBasePath());
-
-		OutputStream outputStream = new ByteArrayOutputStream();
-
-		GradleConnector.newConnector(
-		).forProjectDirectory(
-			file
-		).connect(
-		).newBuild(
-		).setJavaHome(
-			javaHomeFile
-		).forTasks(
-			"dependencyManagement"
-		).setStandardOutput(
-			outputStream
-		).run();
-
-		String output = outputStream.toString();
-
-		List<String> list = new ArrayList<>();
-
-		if (!output.equals("")) {
-			BufferedReader bufferedReader = new BufferedReader(new StringReader(output));
-
-			String line;
-
-			try {
-				boolean start = false;
-
-				while ((line = bufferedReader.readLine()) != null) {
-					if (Objects.equals("compileOnly - Dependency management for the compileOnly configuration", line)) {
-						start = true;
-
-						continue;
-					}
-
-					if (start) {
-						if (StringUtil.equals(line.trim(), "")) {
-							break;
-						}
-
-						list.add(line.trim());
-					}
-				}
-			}
-			catch (IOException ioe) {
-			}
-		}
-
-		targetPlatformDependenciesMap.put(targetPlatformVersion, list);
-
-		return list;
-	}
-
 	@Nullable
 	public default String getTargetPlatformVersion(Project project) {
 		String location = project.getBasePath();
@@ -455,6 +276,4 @@ public interface LiferayWorkspaceSupport {
 
 	public final String SETTINGS_GRADLE_FILE_NAME = "settings.gradle";
 
-	public Map<String, List<String>> targetPlatformDependenciesMap = new HashMap<>();
-
 }
\ No newline at end of file
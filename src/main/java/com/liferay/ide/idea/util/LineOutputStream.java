@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.function.Consumer;
+
+/**
+ * Passes every line written to this stream to a consumer as soon as it is terminated, instead of collecting the whole
+ * output first.
+ *
+ * @author Terry Jia
+ */
+public class LineOutputStream extends OutputStream {
+
+	public LineOutputStream(Consumer<String> lineConsumer) {
+		_lineConsumer = lineConsumer;
+	}
+
+	@Override
+	public synchronized void close() {
+		if (_buffer.size() > 0) {
+			_flushLine();
+		}
+	}
+
+	@Override
+	public synchronized void write(byte[] bytes, int offset, int length) {
+		int start = offset;
+		int end = offset + length;
+
+		for (int i = offset; i < end; i++) {
+			if (bytes[i] == '\n') {
+				_buffer.write(bytes, start, i - start);
+
+				_flushLine();
+
+				start = i + 1;
+			}
+		}
+
+		_buffer.write(bytes, start, end - start);
+	}
+
+	@Override
+	public synchronized void write(int b) {
+		if (b == '\n') {
+			_flushLine();
+		}
+		else {
+			_buffer.write(b);
+		}
+	}
+
+	private void _flushLine() {
+		String line = new String(_buffer.toByteArray(), StandardCharsets.UTF_8);
+
+		_buffer.reset();
+
+		if (line.endsWith("\r")) {
+			line = line.substring(0, line.length() - 1);
+		}
+
+		_lineConsumer.accept(line);
+	}
+
+	private final ByteArrayOutputStream _buffer = new ByteArrayOutputStream();
+	private final Consumer<String> _lineConsumer;
+
+}
\ No newline at end of file
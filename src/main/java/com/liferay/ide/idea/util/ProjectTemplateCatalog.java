@@ -0,0 +1,339 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.util;
+
+import aQute.bnd.version.VersionRange;
+
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.diagnostic.Logger;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarInputStream;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The project templates offered by blade.jar together with the Liferay versions each of them supports. The catalog
+ * is stored in the IDE system directory once per blade.jar timestamp, so blade only has to be asked again after the
+ * plugin ships a new blade.jar.
+ *
+ * @author Terry Jia
+ */
+public class ProjectTemplateCatalog {
+
+	/**
+	 * Reads the supported version ranges from the manifests of the project template jars nested in blade.jar. The
+	 * nested jars are streamed, nothing is extracted to disk. Only the template names that have a template jar in
+	 * blade.jar are kept, so informational or error lines printed by blade never end up in the catalog.
+	 */
+	@NotNull
+	public static ProjectTemplateCatalog create(@NotNull File bladeJar, @NotNull String[] templateNames)
+		throws IOException {
+
+		Set<String> bundledTemplateNames = new HashSet<>();
+		Map<String, String> versionRanges = new LinkedHashMap<>();
+
+		try (ZipFile zipFile = new ZipFile(bladeJar)) {
+			Enumeration<? extends ZipEntry> entries = zipFile.entries();
+
+			while (entries.hasMoreElements()) {
+				ZipEntry entry = entries.nextElement();
+
+				String entryName = entry.getName();
+
+				if (!entryName.startsWith(_PROJECT_TEMPLATES_PREFIX) || !entryName.endsWith(".jar") ||
+					(entryName.indexOf('-') == -1)) {
+
+					continue;
+				}
+
+				String templateName = entryName.substring(_PROJECT_TEMPLATES_PREFIX.length(), entryName.indexOf('-'));
+
+				bundledTemplateNames.add(templateName);
+
+				String versionRange;
+
+				try (InputStream inputStream = zipFile.getInputStream(entry)) {
+					versionRange = _getLiferayVersions(inputStream);
+				}
+
+				if (versionRange != null) {
+					versionRanges.put(templateName, versionRange);
+				}
+			}
+		}
+
+		List<String> bundledTemplateNameList = new ArrayList<>();
+
+		for (String templateName : templateNames) {
+			if (bundledTemplateNames.contains(templateName.replace('-', '.'))) {
+				bundledTemplateNameList.add(templateName);
+			}
+		}
+
+		return new ProjectTemplateCatalog(bundledTemplateNameList, versionRanges);
+	}
+
+	/**
+	 * @return the catalog of the current blade.jar if it has already been loaded, otherwise <code>null</code>
+	 */
+	@Nullable
+	public static ProjectTemplateCatalog getCachedInstance() {
+		ProjectTemplateCatalog projectTemplateCatalog = _instance;
+
+		if (projectTemplateCatalog == null) {
+			return null;
+		}
+
+		File bladeJar = BladeCLI.getBladeJar();
+
+		if (projectTemplateCatalog._bladeJarLastModified != bladeJar.lastModified()) {
+			return null;
+		}
+
+		return projectTemplateCatalog;
+	}
+
+	/**
+	 * Loads the catalog of the current blade.jar, running blade only if the catalog is not stored yet. Should not be
+	 * called on the event dispatch thread. A catalog that could not be loaded is empty and is neither stored nor
+	 * cached, so the next call asks blade again.
+	 */
+	@NotNull
+	public static synchronized ProjectTemplateCatalog getInstance() {
+		ProjectTemplateCatalog projectTemplateCatalog = getCachedInstance();
+
+		if (projectTemplateCatalog != null) {
+			return projectTemplateCatalog;
+		}
+
+		File bladeJar = BladeCLI.getBladeJar();
+
+		long bladeJarLastModified = bladeJar.lastModified();
+
+		Path catalogPath = Paths.get(
+			PathManager.getSystemPath(), "liferay", "project-templates", bladeJarLastModified + ".txt");
+
+		if (Files.exists(catalogPath)) {
+			try {
+				projectTemplateCatalog = read(catalogPath);
+			}
+			catch (IOException ioe) {
+				_log.warn("Unable to read project template catalog " + catalogPath, ioe);
+			}
+		}
+
+		if (projectTemplateCatalog == null) {
+			try {
+				projectTemplateCatalog = create(bladeJar, BladeCLI.getProjectTemplates());
+
+				if (projectTemplateCatalog._templateNames.isEmpty()) {
+					return projectTemplateCatalog;
+				}
+
+				projectTemplateCatalog.write(catalogPath);
+			}
+			catch (IOException ioe) {
+				_log.warn("Unable to create project template catalog", ioe);
+
+				if (projectTemplateCatalog == null) {
+					return new ProjectTemplateCatalog(Collections.emptyList(), Collections.emptyMap());
+				}
+			}
+		}
+
+		projectTemplateCatalog._bladeJarLastModified = bladeJarLastModified;
+
+		_instance = projectTemplateCatalog;
+
+		return projectTemplateCatalog;
+	}
+
+	@NotNull
+	public static ProjectTemplateCatalog read(@NotNull Path path) throws IOException {
+		List<String> templateNames = new ArrayList<>();
+		Map<String, String> versionRanges = new LinkedHashMap<>();
+
+		try (BufferedReader bufferedReader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+			String line = bufferedReader.readLine();
+
+			if (!_FORMAT_LINE.equals(line)) {
+				throw new IOException("Unsupported project template catalog format " + line);
+			}
+
+			List<String> section = null;
+
+			while ((line = bufferedReader.readLine()) != null) {
+				if (line.isEmpty()) {
+					continue;
+				}
+
+				if (line.equals("[templates]")) {
+					section = templateNames;
+				}
+				else if (line.equals("[versions]")) {
+					section = null;
+				}
+				else if (section != null) {
+					section.add(line);
+				}
+				else {
+					int index = line.indexOf('=');
+
+					if (index != -1) {
+						versionRanges.put(line.substring(0, index), line.substring(index + 1));
+					}
+				}
+			}
+		}
+
+		return new ProjectTemplateCatalog(templateNames, versionRanges);
+	}
+
+	/**
+	 * @return the Liferay versions supported by the given template, or <code>null</code> if they are unknown
+	 */
+	@Nullable
+	public VersionRange getSupportedVersionRange(@NotNull String templateName) {
+		String versionRange = _versionRanges.get(templateName.replace('-', '.'));
+
+		if (versionRange == null) {
+			return null;
+		}
+
+		return new VersionRange(versionRange);
+	}
+
+	@NotNull
+	public List<String> getTemplateNames() {
+		return _templateNames;
+	}
+
+	/**
+	 * Writes the catalog atomically so that another IDE instance sharing the system directory never reads a partial
+	 * file.
+	 */
+	public void write(@NotNull Path path) throws IOException {
+		Files.createDirectories(path.getParent());
+
+		Path tempPath = Files.createTempFile(path.getParent(), path.getFileName() + ".", ".tmp");
+
+		try {
+			try (BufferedWriter bufferedWriter = Files.newBufferedWriter(tempPath, StandardCharsets.UTF_8)) {
+				bufferedWriter.write(_FORMAT_LINE);
+				bufferedWriter.newLine();
+				bufferedWriter.newLine();
+				bufferedWriter.write("[templates]");
+				bufferedWriter.newLine();
+
+				for (String templateName : _templateNames) {
+					bufferedWriter.write(templateName);
+					bufferedWriter.newLine();
+				}
+
+				bufferedWriter.newLine();
+				bufferedWriter.write("[versions]");
+				bufferedWriter.newLine();
+
+				for (Map.Entry<String, String> entry : _versionRanges.entrySet()) {
+					bufferedWriter.write(entry.getKey() + "=" + entry.getValue());
+					bufferedWriter.newLine();
+				}
+			}
+
+			Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		}
+		finally {
+			Files.deleteIfExists(tempPath);
+		}
+	}
+
+	private ProjectTemplateCatalog(@NotNull List<String> templateNames, @NotNull Map<String, String> versionRanges) {
+		_templateNames = Collections.unmodifiableList(templateNames);
+		_versionRanges = versionRanges;
+	}
+
+	@Nullable
+	private static String _getLiferayVersions(@NotNull InputStream inputStream) throws IOException {
+		try (JarInputStream jarInputStream = new JarInputStream(inputStream)) {
+			Manifest manifest = jarInputStream.getManifest();
+
+			if (manifest == null) {
+				JarEntry jarEntry;
+
+				while ((jarEntry = jarInputStream.getNextJarEntry()) != null) {
+					if (JarFile.MANIFEST_NAME.equals(jarEntry.getName())) {
+						manifest = new Manifest(jarInputStream);
+
+						break;
+					}
+				}
+			}
+
+			if (manifest == null) {
+				return null;
+			}
+
+			Attributes attributes = manifest.getMainAttributes();
+
+			String liferayVersions = attributes.getValue("Liferay-Versions");
+
+			if (liferayVersions == null) {
+				return null;
+			}
+
+			return liferayVersions.trim();
+		}
+	}
+
+	private static final String _FORMAT_LINE = "format=2";
+
+	private static final String _PROJECT_TEMPLATES_PREFIX = "com.liferay.project.templates.";
+
+	private static final Logger _log = Logger.getInstance(ProjectTemplateCatalog.class);
+
+	private static volatile ProjectTemplateCatalog _instance;
+
+	private long _bladeJarLastModified;
+	private final List<String> _templateNames;
+	private final Map<String, String> _versionRanges;
+
+}
\ No newline at end of file
@@ -15,22 +15,17 @@
 package com.liferay.ide.idea.util;
 
 import com.liferay.ide.idea.server.portal.PortalBundle;
+import com.liferay.ide.idea.server.portal.PortalBundleContentIndex;
 import com.liferay.ide.idea.server.portal.PortalBundleFactory;
 import com.liferay.ide.idea.server.portal.PortalTomcatBundleFactory;
 import com.liferay.ide.idea.server.portal.PortalWildFlyBundleFactory;
 
 import java.io.File;
-import java.io.FilenameFilter;
 import java.io.IOException;
-import java.io.InputStream;
 
 import java.nio.file.Path;
 
-import java.util.ArrayList;
-import java.util.Enumeration;
 import java.util.List;
-import java.util.jar.JarEntry;
-import java.util.jar.JarFile;
 
 /**
  * @author Terry Jia
@@ -39,9 +34,9 @@ import java.util.jar.JarFile;
 public class ServerUtil {
 
 	public static File[] getMarketplaceLpkgFiles(File runtime) {
-		File marketplace = new File(new File(runtime, "osgi"), "marketplace");
+		PortalBundleContentIndex portalBundleContentIndex = PortalBundleContentIndex.getInstance(runtime);
 
-		return marketplace.listFiles((dir, name) -> name.matches(".*\\.lpkg"));
+		return portalBundleContentIndex.getLpkgFiles();
 	}
 
 	public static File getModuleFileFrom70Server(File runtime, String hostOsgiBundle, File temp) {
@@ -63,104 +58,21 @@ public class ServerUtil {
 			return f;
 		}
 
-		File[] files = getMarketplaceLpkgFiles(runtime);
-
-		InputStream in = null;
+		PortalBundleContentIndex portalBundleContentIndex = PortalBundleContentIndex.getInstance(runtime);
 
 		try {
-			boolean found = false;
-
-			for (File file : files) {
-				try (JarFile jar = new JarFile(file)) {
-					Enumeration<JarEntry> enu = jar.entries();
-
-					while (enu.hasMoreElements()) {
-						JarEntry entry = enu.nextElement();
-
-						String name = entry.getName();
-
-						if (name.contains(hostOsgiBundle)) {
-							in = jar.getInputStream(entry);
-							found = true;
-
-							FileUtil.writeFile(f, in);
-
-							break;
-						}
-					}
-
-					if (found) {
-						break;
-					}
-				}
-			}
+			portalBundleContentIndex.extractLpkgBundle(hostOsgiBundle, f);
 		}
-		catch (Exception e) {
-		}
-		finally {
-			if (in != null) {
-				try {
-					in.close();
-				}
-				catch (IOException ioe) {
-				}
-			}
+		catch (IOException ioe) {
 		}
 
 		return f;
 	}
 
 	public static List<String> getModuleFileListFrom70Server(File runtime) {
-		List<String> bundles = new ArrayList<>();
-
-		try {
-			for (String dir : _osgiBundleDirs) {
-				File dirFile = new File(new File(runtime, "osgi"), dir);
-
-				if (dirFile.exists()) {
-					File[] files = dirFile.listFiles(
-						new FilenameFilter() {
-
-							@Override
-							public boolean accept(File dir, String name) {
-								return name.matches(".*\\.jar");
-							}
-
-						});
-
-					if ((files != null) && (files.length > 0)) {
-						for (File file : files) {
-							bundles.add(file.getName());
-						}
-					}
-				}
-			}
-		}
-		catch (Exception e) {
-			e.printStackTrace();
-		}
-
-		File[] files = getMarketplaceLpkgFiles(runtime);
-
-		for (File file : files) {
-			try (JarFile jar = new JarFile(file)) {
-				Enumeration<JarEntry> enu = jar.entries();
-
-				while (enu.hasMoreElements()) {
-					JarEntry entry = enu.nextElement();
-
-					String name = entry.getName();
-
-					if (name.endsWith(".jar")) {
-						bundles.add(name);
-					}
-				}
-			}
-			catch (IOException ioe) {
-			}
-		}
+		PortalBundleContentIndex portalBundleContentIndex = PortalBundleContentIndex.getInstance(runtime);
 
-		return bundles;
+		return portalBundleContentIndex.getBundleNames();
 	}
 
 	public static PortalBundle getPortalBundle(Path bundlePath) {
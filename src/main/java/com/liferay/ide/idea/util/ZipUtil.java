@@ -21,10 +21,22 @@ import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -102,6 +114,79 @@ public class ZipUtil {
 		}
 	}
 
+	/**
+	 * Extracts only the requested entries of a zip file, writing the files in parallel. Files are looked up directly
+	 * in the central directory, and the entries are only enumerated if a directory was requested.
+	 *
+	 * @param entryDestDirs the destination directory for every requested entry path, directories end with a slash
+	 *                      and include every entry below them
+	 * @return the written files
+	 */
+	public static List<File> unzipEntries(File file, Map<String, File> entryDestDirs) throws IOException {
+		try (ZipFile zipFile = open(file)) {
+			List<Pair<ZipEntry, File>> zipEntries = new ArrayList<>();
+			Map<String, File> dirDestDirs = new HashMap<>();
+
+			for (Map.Entry<String, File> entryDestDir : entryDestDirs.entrySet()) {
+				String entryPath = entryDestDir.getKey();
+
+				if (entryPath.endsWith("/")) {
+					dirDestDirs.put(entryPath, entryDestDir.getValue());
+
+					continue;
+				}
+
+				ZipEntry zipEntry = zipFile.getEntry(entryPath);
+
+				if (zipEntry != null) {
+					zipEntries.add(Pair.create(zipEntry, entryDestDir.getValue()));
+				}
+			}
+
+			if (!dirDestDirs.isEmpty()) {
+				Enumeration<? extends ZipEntry> entries = zipFile.entries();
+
+				while (entries.hasMoreElements()) {
+					ZipEntry zipEntry = entries.nextElement();
+
+					if (zipEntry.isDirectory()) {
+						continue;
+					}
+
+					String entryName = zipEntry.getName();
+
+					for (Map.Entry<String, File> dirDestDir : dirDestDirs.entrySet()) {
+						if (entryName.startsWith(dirDestDir.getKey())) {
+							zipEntries.add(Pair.create(zipEntry, dirDestDir.getValue()));
+
+							break;
+						}
+					}
+				}
+			}
+
+			Stream<Pair<ZipEntry, File>> stream = zipEntries.parallelStream();
+
+			try {
+				return stream.map(
+					pair -> {
+						try {
+							return _writeEntry(zipFile, pair.getFirst(), pair.getSecond());
+						}
+						catch (IOException ioe) {
+							throw new UncheckedIOException(ioe);
+						}
+					}
+				).collect(
+					Collectors.toList()
+				);
+			}
+			catch (UncheckedIOException uioe) {
+				throw uioe.getCause();
+			}
+		}
+	}
+
 	@FunctionalInterface
 	public interface PathFilter {
 
@@ -154,4 +239,29 @@ public class ZipUtil {
 		}
 	}
 
+	private static File _writeEntry(ZipFile zipFile, ZipEntry zipEntry, File destDir) throws IOException {
+		File file = new File(destDir, zipEntry.getName());
+
+		Path path = file.toPath();
+
+		Files.createDirectories(path.getParent());
+
+		try (InputStream inputStream = zipFile.getInputStream(zipEntry);
+			ReadableByteChannel readableByteChannel = Channels.newChannel(inputStream);
+			FileChannel fileChannel = FileChannel.open(
+				path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+
+			long position = 0;
+			long count;
+
+			while ((count = fileChannel.transferFrom(readableByteChannel, position, _TRANSFER_SIZE)) > 0) {
+				position += count;
+			}
+		}
+
+		return file;
+	}
+
+	private static final long _TRANSFER_SIZE = 1024 * 1024;
+
 }
\ No newline at end of file
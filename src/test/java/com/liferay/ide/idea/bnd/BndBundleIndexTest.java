@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.bnd;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.testFramework.fixtures.LightCodeInsightFixtureTestCase;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * @author Dominik Marks
+ */
+public class BndBundleIndexTest extends LightCodeInsightFixtureTestCase {
+
+	public void testBundleIndex() {
+		PsiFile apiBndFile = myFixture.addFileToProject(
+			"modules/foo/foo-api/bnd.bnd",
+			"Bundle-Name: Foo API\nBundle-SymbolicName: com.example.foo.api;singleton:=true\n" +
+				"Export-Package: \\\n\tcom.example.foo.api,\\\n\tcom.example.foo.model;version=\"1.0.0\"\n");
+		PsiFile serviceBndFile = myFixture.addFileToProject(
+			"modules/foo/foo-service/bnd.bnd",
+			"Bundle-SymbolicName: com.example.foo.service\nImport-Package: com.example.foo.api,*\n");
+
+		myFixture.addFileToProject("modules/bar/bnd.bnd", "Bundle-Name: Bar\n");
+		myFixture.addFileToProject(
+			"modules/foo/foo-api/src/test/resources/bnd.bnd", "Bundle-SymbolicName: com.example.foo.api.test\n");
+
+		Project project = getProject();
+
+		VirtualFile apiVirtualFile = apiBndFile.getVirtualFile();
+
+		VirtualFile apiModuleRoot = apiVirtualFile.getParent();
+
+		VirtualFile serviceVirtualFile = serviceBndFile.getVirtualFile();
+
+		VirtualFile serviceModuleRoot = serviceVirtualFile.getParent();
+
+		assertEquals("com.example.foo.api", BndBundleIndex.getBundleSymbolicName(project, apiModuleRoot));
+		assertNull(BndBundleIndex.getBundleSymbolicName(project, apiModuleRoot.findChild("src")));
+		assertEquals(
+			Collections.singletonList(serviceModuleRoot),
+			BndBundleIndex.getModuleRoots(project, "com.example.foo.service"));
+
+		Map<String, VirtualFile> moduleRoots = BndBundleIndex.getBundleSymbolicNames(
+			project, apiModuleRoot.getParent());
+
+		assertEquals(
+			Arrays.asList("com.example.foo.api", "com.example.foo.service"),
+			Arrays.asList(moduleRoots.keySet().toArray()));
+		assertEquals(apiModuleRoot, moduleRoots.get("com.example.foo.api"));
+
+		moduleRoots = BndBundleIndex.getBundleSymbolicNames(project, apiModuleRoot);
+
+		assertEquals(Collections.singletonMap("com.example.foo.api", apiModuleRoot), moduleRoots);
+
+		BndBundleInfo bndBundleInfo = BndBundleIndex.getBundleInfo(project, "com.example.foo.api");
+
+		assertNotNull(bndBundleInfo);
+		assertEquals(
+			Arrays.asList("com.example.foo.api", "com.example.foo.model"), bndBundleInfo.getExportPackages());
+		assertEmpty(bndBundleInfo.getImportPackages());
+
+		bndBundleInfo = BndBundleIndex.getBundleInfo(project, "com.example.foo.service");
+
+		assertNotNull(bndBundleInfo);
+		assertEquals(Arrays.asList("com.example.foo.api", "*"), bndBundleInfo.getImportPackages());
+	}
+
+}
\ No newline at end of file
@@ -48,6 +48,19 @@ import org.jetbrains.plugins.gradle.util.GradleConstants;
  */
 public class LiferayJspDebuggerSourceFinderAdapterTest extends LightCodeInsightFixtureTestCase {
 
+	public void testSourceFinderCachesResults() {
+		LiferayJspDebuggerSourceFinderAdapter sourcesFinder = new LiferayJspDebuggerSourceFinderAdapter();
+
+		List<PsiFile> sourceFiles = sourcesFinder.findSourceFiles(
+			"init.jsp", myFixture.getProject(), new JavaeeFacet[0]);
+
+		assertEquals(
+			sourceFiles, sourcesFinder.findSourceFiles("init.jsp", myFixture.getProject(), new JavaeeFacet[0]));
+
+		assertEquals(1, sourcesFinder.getHitCount());
+		assertEquals(1, sourcesFinder.getMissCount());
+	}
+
 	public void testSourceFinderInLibrary() {
 		SourcesFinder<JavaeeFacet[]> sourcesFinder = new LiferayJspDebuggerSourceFinderAdapter();
 
@@ -98,7 +111,7 @@ public class LiferayJspDebuggerSourceFinderAdapterTest extends LightCodeInsightF
 
 		targetPlatformArtifacts.add(libraryData);
 
-		Field field = LiferayJspDebuggerSourceFinderAdapter.class.getDeclaredField("_targetPlatformArtifacts");
+		Field field = LiferayJspLibraryIndex.class.getDeclaredField("_targetPlatformArtifacts");
 
 		field.setAccessible(true);
 		field.set(null, targetPlatformArtifacts);
@@ -15,6 +15,7 @@
 package com.liferay.ide.idea.language.osgi;
 
 import com.intellij.codeInsight.completion.CompletionType;
+import com.intellij.codeInsight.lookup.LookupElementBuilder;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.projectRoots.Sdk;
 import com.intellij.openapi.projectRoots.impl.JavaAwareProjectJdkTableImpl;
@@ -31,6 +32,7 @@ import com.intellij.util.PathUtil;
 
 import java.io.File;
 
+import java.util.Arrays;
 import java.util.List;
 
 import org.jetbrains.annotations.NotNull;
@@ -50,6 +52,28 @@ public class ComponentPropertiesCompletionContributorTest extends LightCodeInsig
 		assertTrue(strings.contains("osgi.command.scope"));
 	}
 
+	public void testComponentPropertiesRegistry() {
+		ComponentPropertiesRegistry componentPropertiesRegistry = ComponentPropertiesRegistry.getInstance("7.2");
+
+		List<LookupElementBuilder> lookupElements = componentPropertiesRegistry.getLookupElements("java.lang.Object");
+
+		assertSame(lookupElements, componentPropertiesRegistry.getLookupElements(Arrays.asList("java.lang.Object")));
+
+		String previousLookupString = null;
+
+		for (LookupElementBuilder lookupElementBuilder : lookupElements) {
+			String lookupString = lookupElementBuilder.getLookupString();
+
+			if (previousLookupString != null) {
+				assertTrue(previousLookupString.compareTo(lookupString) < 0);
+			}
+
+			previousLookupString = lookupString;
+		}
+
+		assertTrue(componentPropertiesRegistry.getLookupElements("com.example.Unknown").isEmpty());
+	}
+
 	public void testMultiServiceComponentPropertiesCompletion() {
 		myFixture.configureByFiles(
 			"MultiServiceComponent.java", "com/liferay/portal/kernel/portlet/bridges/mvc/MVCActionCommand.java",
@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.language.osgi;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * @author Dominik Marks
+ */
+public class ComponentPropertiesScannerTest {
+
+	@Test
+	public void testScan() throws Exception {
+		ComponentPropertiesScanner componentPropertiesScanner = new ComponentPropertiesScanner();
+
+		componentPropertiesScanner.scan(_createJarFile());
+
+		Map<String, Map<String, String>> componentProperties = componentPropertiesScanner.getComponentProperties();
+
+		Assert.assertEquals(
+			Arrays.asList("com.liferay.portal.kernel.portlet.bridges.mvc.MVCActionCommand", "javax.portlet.Portlet"),
+			Arrays.asList(componentProperties.keySet().toArray()));
+
+		Map<String, String> properties = componentProperties.get("javax.portlet.Portlet");
+
+		Assert.assertEquals("Boolean", properties.get("com.liferay.portlet.instanceable"));
+		Assert.assertEquals("String", properties.get("javax.portlet.name"));
+		Assert.assertNull(properties.get("metatype"));
+
+		properties = componentProperties.get("com.liferay.portal.kernel.portlet.bridges.mvc.MVCActionCommand");
+
+		Assert.assertEquals("String", properties.get("mvc.command.name"));
+	}
+
+	@Test
+	public void testWrite() throws Exception {
+		ComponentPropertiesScanner componentPropertiesScanner = new ComponentPropertiesScanner();
+
+		componentPropertiesScanner.scan(_createJarFile());
+
+		File indexDir = temporaryFolder.newFolder();
+
+		Path indexPath = indexDir.toPath();
+
+		indexPath = indexPath.resolve("7.2.0.txt");
+
+		componentPropertiesScanner.write(indexPath);
+
+		Assert.assertEquals(
+			Arrays.asList(
+				"format=1", "", "[com.liferay.portal.kernel.portlet.bridges.mvc.MVCActionCommand]",
+				"javax.portlet.name=String", "mvc.command.name=String", "", "[javax.portlet.Portlet]",
+				"com.liferay.portlet.instanceable=Boolean", "javax.portlet.name=String"),
+			Files.readAllLines(indexPath, StandardCharsets.UTF_8));
+
+		Assert.assertEquals(1, indexDir.list().length);
+	}
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private File _createJarFile() throws IOException {
+		File jarFile = temporaryFolder.newFile("test.jar");
+
+		try (ZipOutputStream zipOutputStream = new ZipOutputStream(Files.newOutputStream(jarFile.toPath()))) {
+			_putEntry(
+				zipOutputStream, "OSGI-INF/com.example.ExamplePortlet.xml",
+				"<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+					"<scr:component xmlns:scr=\"http://www.osgi.org/xmlns/scr/v1.3.0\" " +
+						"name=\"com.example.ExamplePortlet\">" +
+					"<property name=\"com.liferay.portlet.instanceable\" type=\"Boolean\" value=\"true\"/>" +
+					"<property name=\"javax.portlet.name\" value=\"example\"/>" +
+					"<service><provide interface=\"javax.portlet.Portlet\"/></service>" +
+					"<implementation class=\"com.example.ExamplePortlet\"/></scr:component>");
+			_putEntry(
+				zipOutputStream, "OSGI-INF/com.example.ExampleMVCActionCommand.xml",
+				"<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+					"<scr:component xmlns:scr=\"http://www.osgi.org/xmlns/scr/v1.3.0\" " +
+						"name=\"com.example.ExampleMVCActionCommand\">" +
+					"<property name=\"javax.portlet.name\" value=\"example\"/>" +
+					"<property name=\"mvc.command.name\" value=\"/example\"/>" +
+					"<service>" +
+					"<provide interface=\"com.liferay.portal.kernel.portlet.bridges.mvc.MVCActionCommand\"/>" +
+					"</service></scr:component>");
+			_putEntry(
+				zipOutputStream, "OSGI-INF/metatype/com.example.Configuration.xml",
+				"<?xml version=\"1.0\" encoding=\"UTF-8\"?><component><property name=\"metatype\"/>" +
+					"<service><provide interface=\"javax.portlet.Portlet\"/></service></component>");
+		}
+
+		return jarFile;
+	}
+
+	private void _putEntry(ZipOutputStream zipOutputStream, String name, String content) throws IOException {
+		zipOutputStream.putNextEntry(new ZipEntry(name));
+
+		zipOutputStream.write(content.getBytes(StandardCharsets.UTF_8));
+
+		zipOutputStream.closeEntry();
+	}
+
+}
\ No newline at end of file
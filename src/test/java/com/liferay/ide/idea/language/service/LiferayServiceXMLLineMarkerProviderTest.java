@@ -84,6 +84,44 @@ public class LiferayServiceXMLLineMarkerProviderTest extends LightCodeInsightFix
 		assertTrue("service.xml line marker not found", lineMarkerFound.get());
 	}
 
+	@SuppressWarnings("rawtypes")
+	public void testGeneratedClassesLineMarker() {
+		myFixture.configureByFiles(
+			"service.xml", "com/liferay/ide/model/impl/MyModelImpl.java",
+			"com/liferay/ide/service/MyModelLocalService.java");
+
+		List<GutterMark> allGutterMarks = myFixture.findAllGutters();
+
+		Stream<GutterMark> s = allGutterMarks.stream();
+
+		long targetCount = s.filter(
+			gutterMark -> gutterMark instanceof LineMarkerInfo.LineMarkerGutterIconRenderer
+		).map(
+			gutterMark -> {
+				LineMarkerInfo.LineMarkerGutterIconRenderer lineMarkerGutterIconRenderer =
+					(LineMarkerInfo.LineMarkerGutterIconRenderer)gutterMark;
+
+				return lineMarkerGutterIconRenderer.getLineMarkerInfo();
+			}
+		).filter(
+			lineMarkerInfo -> lineMarkerInfo instanceof RelatedItemLineMarkerInfo
+		).flatMap(
+			lineMarkerInfo -> {
+				RelatedItemLineMarkerInfo relatedItemLineMarkerInfo = (RelatedItemLineMarkerInfo)lineMarkerInfo;
+
+				Collection<GotoRelatedItem> items = relatedItemLineMarkerInfo.createGotoRelatedItems();
+
+				return items.stream();
+			}
+		).map(
+			GotoRelatedItem::getElement
+		).filter(
+			Objects::nonNull
+		).count();
+
+		assertEquals("service.xml line marker should target both generated classes", 2, targetCount);
+	}
+
 	@NotNull
 	@Override
 	protected LightProjectDescriptor getProjectDescriptor() {
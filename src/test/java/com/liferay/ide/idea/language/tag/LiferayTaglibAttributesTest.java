@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.language.tag;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Dominik Marks
+ */
+public class LiferayTaglibAttributesTest {
+
+	@Test
+	public void testContains() throws Exception {
+		LiferayTaglibAttributes taglibAttributes = LiferayTaglibAttributes.of(_taglibAttributesMap);
+
+		Assert.assertTrue(taglibAttributes.contains(LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "input", "label"));
+		Assert.assertTrue(taglibAttributes.contains(LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "script", ""));
+		Assert.assertTrue(taglibAttributes.contains(LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "tabs", "names"));
+
+		Assert.assertFalse(taglibAttributes.contains(LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "input", "names"));
+		Assert.assertFalse(taglibAttributes.contains(LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI, "tabs", "names"));
+		Assert.assertFalse(taglibAttributes.contains(LiferayTaglibs.TAGLIB_URI_LIFERAY_UI, "input", "label"));
+		Assert.assertFalse(taglibAttributes.contains(null, "input", "label"));
+	}
+
+	@Test
+	public void testGetAttributeNames() throws Exception {
+		LiferayTaglibAttributes taglibAttributes = LiferayTaglibAttributes.of(_taglibAttributesMap);
+
+		Assert.assertArrayEquals(
+			new String[] {"", "helpMessage", "label", "names"}, taglibAttributes.getAttributeNames());
+	}
+
+	private static final Map<String, Collection<AbstractMap.SimpleImmutableEntry<String, String>>>
+		_taglibAttributesMap = new HashMap<>();
+
+	static {
+		_taglibAttributesMap.put(
+			LiferayTaglibs.TAGLIB_URI_LIFERAY_AUI,
+			Arrays.asList(
+				new AbstractMap.SimpleImmutableEntry<>("input", "helpMessage"),
+				new AbstractMap.SimpleImmutableEntry<>("input", "label"),
+				new AbstractMap.SimpleImmutableEntry<>("script", "")));
+		_taglibAttributesMap.put(
+			LiferayTaglibs.TAGLIB_URI_LIFERAY_UI,
+			Arrays.asList(
+				new AbstractMap.SimpleImmutableEntry<>("tabs", "names"),
+				new AbstractMap.SimpleImmutableEntry<>("panel", "helpMessage")));
+	}
+
+}
\ No newline at end of file
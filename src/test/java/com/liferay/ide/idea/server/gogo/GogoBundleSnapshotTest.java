@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.server.gogo;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Gregory Amerson
+ */
+public class GogoBundleSnapshotTest {
+
+	@Test
+	public void testDiff() throws Exception {
+		GogoBundleSnapshot previous = GogoBundleSnapshot.parse(_LB_OUTPUT);
+
+		GogoBundleSnapshot current = GogoBundleSnapshot.parse(
+			"START LEVEL 20\r\n" +
+				"   ID|State      |Level|Symbolic name\r\n" +
+				"    0|Active     |    0|org.eclipse.osgi (3.13.0.v20180226-1711)\r\n" +
+				"  512|Resolved   |   10|com.liferay.foo.api (1.0.1)\r\n" +
+				"  513|Installed  |   15|com.liferay.bar.service (1.0.0)\r\n" +
+				"  515|Resolved   |   15|com.liferay.foo.web.fragment (1.0.0)|514\r\n");
+
+		GogoBundleSnapshot.Delta delta = current.diff(previous);
+
+		Assert.assertEquals(1, delta.getAdded().size());
+		Assert.assertEquals(1, delta.getChanged().size());
+		Assert.assertEquals(1, delta.getRemoved().size());
+
+		GogoBundle added = delta.getAdded().get(0);
+
+		Assert.assertEquals("com.liferay.bar.service", added.getSymbolicName());
+
+		GogoBundle changed = delta.getChanged().get(0);
+
+		Assert.assertEquals("1.0.1", changed.getVersion());
+
+		GogoBundle removed = delta.getRemoved().get(0);
+
+		Assert.assertEquals("com.liferay.foo.web", removed.getSymbolicName());
+
+		Assert.assertTrue(current.diff(current).isEmpty());
+	}
+
+	@Test
+	public void testParse() throws Exception {
+		GogoBundleSnapshot gogoBundleSnapshot = GogoBundleSnapshot.parse(_LB_OUTPUT);
+
+		Assert.assertEquals(4, gogoBundleSnapshot.size());
+
+		GogoBundle gogoBundle = gogoBundleSnapshot.getBundle("com.liferay.foo.api");
+
+		Assert.assertNotNull(gogoBundle);
+		Assert.assertEquals(512, gogoBundle.getId());
+		Assert.assertEquals("Active", gogoBundle.getState());
+		Assert.assertEquals("1.0.0", gogoBundle.getVersion());
+
+		GogoBundle fragmentGogoBundle = gogoBundleSnapshot.getBundle("com.liferay.foo.web.fragment");
+
+		Assert.assertNotNull(fragmentGogoBundle);
+		Assert.assertEquals(515, fragmentGogoBundle.getId());
+		Assert.assertEquals("Resolved", fragmentGogoBundle.getState());
+		Assert.assertEquals("1.0.0", fragmentGogoBundle.getVersion());
+
+		Assert.assertNull(gogoBundleSnapshot.getBundle("Symbolic"));
+	}
+
+	private static final String _LB_OUTPUT =
+		"START LEVEL 20\r\n" +
+			"   ID|State      |Level|Symbolic name\r\n" +
+			"    0|Active     |    0|org.eclipse.osgi (3.13.0.v20180226-1711)\r\n" +
+			"  512|Active     |   10|com.liferay.foo.api (1.0.0)\r\n" +
+			"  514|Active     |   15|com.liferay.foo.web (2.0.0.201910181200)\r\n" +
+			"  515|Resolved   |   15|com.liferay.foo.web.fragment (1.0.0)|514\r\n";
+
+}
\ No newline at end of file
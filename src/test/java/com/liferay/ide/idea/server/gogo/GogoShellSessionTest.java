@@ -0,0 +1,181 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.server.gogo;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+
+import java.net.ServerSocket;
+import java.net.Socket;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Gregory Amerson
+ */
+public class GogoShellSessionTest {
+
+	@Before
+	public void setUp() throws Exception {
+		_serverSocket = new ServerSocket(0);
+
+		_serverThread = new Thread(this::_serve);
+
+		_serverThread.setDaemon(true);
+
+		_serverThread.start();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		_serverSocket.close();
+
+		_serverThread.join(5000);
+	}
+
+	@Test
+	public void testSendAllDoesNotResendWrittenCommands() throws Exception {
+		try (GogoShellSession gogoShellSession = new GogoShellSession("localhost", _serverSocket.getLocalPort())) {
+			Assert.assertEquals(
+				Collections.singletonList("echo 1: lb -s"),
+				gogoShellSession.sendAll(Collections.singletonList("lb -s")));
+
+			// the server drops the connection after reading the next command, so it may already have run
+
+			_dropAfterReading = true;
+
+			try {
+				gogoShellSession.sendAll(Collections.singletonList("uninstall 512"));
+
+				Assert.fail();
+			}
+			catch (IOException ioe) {
+			}
+
+			Assert.assertEquals(Arrays.asList("lb -s", "uninstall 512"), _receivedCommands);
+		}
+	}
+
+	@Test
+	public void testSendAllReconnectsAfterRestart() throws Exception {
+		try (GogoShellSession gogoShellSession = new GogoShellSession("localhost", _serverSocket.getLocalPort())) {
+			Assert.assertEquals(
+				Collections.singletonList("echo 1: lb -s"),
+				gogoShellSession.sendAll(Collections.singletonList("lb -s")));
+
+			// the server closes the first connection, as a restarted portal would
+
+			_closeAfterAnswering = true;
+
+			Assert.assertEquals(
+				Collections.singletonList("echo 1: lb -s"),
+				gogoShellSession.sendAll(Collections.singletonList("lb -s")));
+
+			Assert.assertTrue(_closed.tryAcquire(5, TimeUnit.SECONDS));
+
+			Assert.assertEquals(
+				Collections.singletonList("echo 2: lb -s"),
+				gogoShellSession.sendAll(Collections.singletonList("lb -s")));
+			Assert.assertTrue(gogoShellSession.isConnected());
+			Assert.assertEquals(Arrays.asList("lb -s", "lb -s", "lb -s"), _receivedCommands);
+		}
+	}
+
+	private static void _readFully(InputStream inputStream, int length) throws IOException {
+		for (int i = 0; i < length; i++) {
+			Assert.assertNotEquals(-1, inputStream.read());
+		}
+	}
+
+	private void _serve() {
+		int connection = 0;
+
+		while (!_serverSocket.isClosed()) {
+			try (Socket socket = _serverSocket.accept()) {
+				connection++;
+
+				InputStream inputStream = socket.getInputStream();
+				OutputStream outputStream = socket.getOutputStream();
+
+				outputStream.write(new byte[] {(byte)255, (byte)253, 1, (byte)255, (byte)251, 1});
+				outputStream.write(new byte[] {(byte)255, (byte)251, 3, (byte)255, (byte)253, 24});
+				outputStream.flush();
+
+				_readFully(inputStream, 3);
+
+				outputStream.write(new byte[] {(byte)255, (byte)250, 24, 1, (byte)255, (byte)240});
+				outputStream.flush();
+
+				_readFully(inputStream, 11);
+
+				outputStream.write("g! ".getBytes(StandardCharsets.UTF_8));
+				outputStream.flush();
+
+				BufferedReader bufferedReader = new BufferedReader(
+					new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+
+				String line;
+
+				while ((line = bufferedReader.readLine()) != null) {
+					_receivedCommands.add(line);
+
+					if (_dropAfterReading) {
+						break;
+					}
+
+					boolean closeAfterAnswering = _closeAfterAnswering;
+
+					_closeAfterAnswering = false;
+
+					String response = "echo " + connection + ": " + line + "\r\ng! ";
+
+					outputStream.write(response.getBytes(StandardCharsets.UTF_8));
+					outputStream.flush();
+
+					if (closeAfterAnswering) {
+						break;
+					}
+				}
+			}
+			catch (IOException ioe) {
+			}
+
+			_closed.release();
+		}
+	}
+
+	private volatile boolean _closeAfterAnswering;
+	private final Semaphore _closed = new Semaphore(0);
+	private volatile boolean _dropAfterReading;
+	private final List<String> _receivedCommands = new CopyOnWriteArrayList<>();
+	private ServerSocket _serverSocket;
+	private Thread _serverThread;
+
+}
\ No newline at end of file
@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.server.gogo;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Gregory Amerson
+ */
+public class GogoTelnetClientTest {
+
+	@Before
+	public void setUp() throws Exception {
+		_serverSocket = new ServerSocket(0);
+
+		_serverThread = new Thread(this::_serve);
+
+		_serverThread.setDaemon(true);
+
+		_serverThread.start();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		_serverSocket.close();
+
+		_serverThread.join(5000);
+	}
+
+	@Test
+	public void testSend() throws Exception {
+		try (GogoTelnetClient gogoTelnetClient = new GogoTelnetClient("localhost", _serverSocket.getLocalPort())) {
+			Assert.assertEquals("echo: lb -s", gogoTelnetClient.send("lb -s"));
+		}
+	}
+
+	@Test
+	public void testSendAll() throws Exception {
+		try (GogoTelnetClient gogoTelnetClient = new GogoTelnetClient("localhost", _serverSocket.getLocalPort())) {
+			List<String> responses = gogoTelnetClient.sendAll(
+				Arrays.asList("uninstall foo", "uninstall bar", "g! baz"));
+
+			Assert.assertEquals(
+				Arrays.asList("echo: uninstall foo", "echo: uninstall bar", "echo: g!g baz"), responses);
+		}
+	}
+
+	@Test(expected = SocketTimeoutException.class)
+	public void testSendTimesOut() throws Exception {
+		try (GogoTelnetClient gogoTelnetClient = new GogoTelnetClient(
+				"localhost", _serverSocket.getLocalPort(), 500)) {
+
+			gogoTelnetClient.send("stall");
+		}
+	}
+
+	private static void _readFully(InputStream inputStream, int length) throws IOException {
+		for (int i = 0; i < length; i++) {
+			Assert.assertNotEquals(-1, inputStream.read());
+		}
+	}
+
+	private void _serve() {
+		try (Socket socket = _serverSocket.accept()) {
+			InputStream inputStream = socket.getInputStream();
+			OutputStream outputStream = socket.getOutputStream();
+
+			// IAC DO ECHO, IAC WILL ECHO, IAC WILL SGA, IAC DO TERMINAL-TYPE
+
+			outputStream.write(new byte[] {(byte)255, (byte)253, 1, (byte)255, (byte)251, 1});
+			outputStream.write(new byte[] {(byte)255, (byte)251, 3, (byte)255, (byte)253, 24});
+			outputStream.flush();
+
+			_readFully(inputStream, 3);
+
+			outputStream.write(new byte[] {(byte)255, (byte)250, 24, 1, (byte)255, (byte)240});
+			outputStream.flush();
+
+			_readFully(inputStream, 11);
+
+			outputStream.write("Welcome to Apache Felix Gogo\r\n\r\ng! ".getBytes(StandardCharsets.UTF_8));
+			outputStream.flush();
+
+			BufferedReader bufferedReader = new BufferedReader(
+				new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+
+			String line;
+
+			while ((line = bufferedReader.readLine()) != null) {
+				if (line.equals("stall")) {
+					continue;
+				}
+
+
+				// a partial prompt inside the output must not end the response
+
+				String response = "echo: " + line.replace("g! ", "g!g ") + "\r\ng! ";
+
+				outputStream.write(response.getBytes(StandardCharsets.UTF_8));
+				outputStream.flush();
+			}
+		}
+		catch (IOException ioe) {
+		}
+	}
+
+	private ServerSocket _serverSocket;
+	private Thread _serverThread;
+
+}
\ No newline at end of file
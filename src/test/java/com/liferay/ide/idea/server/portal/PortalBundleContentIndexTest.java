@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.server.portal;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * @author Simon Jiang
+ */
+public class PortalBundleContentIndexTest {
+
+	@Before
+	public void setUp() throws Exception {
+		_liferayHome = temporaryFolder.newFolder("liferay");
+
+		Path liferayHomePath = _liferayHome.toPath();
+
+		Path modulesPath = liferayHomePath.resolve("osgi/modules");
+
+		Files.createDirectories(modulesPath);
+
+		Files.write(modulesPath.resolve("com.example.module.jar"), _bytes("module"));
+
+		Path marketplacePath = liferayHomePath.resolve("osgi/marketplace");
+
+		Files.createDirectories(marketplacePath);
+
+		_lpkgPath = marketplacePath.resolve("Liferay Collaboration.lpkg");
+
+		_writeLpkg("com.liferay.blogs.web.jar", "blogs");
+	}
+
+	@Test
+	public void testExtractLpkgBundle() throws Exception {
+		PortalBundleContentIndex portalBundleContentIndex = new PortalBundleContentIndex(_liferayHome.toPath());
+
+		File destination = new File(temporaryFolder.getRoot(), "temp/com.liferay.blogs.web.jar");
+
+		Assert.assertEquals(
+			destination, portalBundleContentIndex.extractLpkgBundle("com.liferay.blogs.web.jar", destination));
+		Assert.assertArrayEquals(_bytes("blogs"), Files.readAllBytes(destination.toPath()));
+
+		destination = new File(temporaryFolder.getRoot(), "temp/com.liferay.comment.api.jar");
+
+		Assert.assertEquals(destination, portalBundleContentIndex.extractLpkgBundle("comment.api", destination));
+		Assert.assertArrayEquals(_bytes("comment"), Files.readAllBytes(destination.toPath()));
+
+		Assert.assertNull(portalBundleContentIndex.extractLpkgBundle("com.liferay.missing.jar", destination));
+	}
+
+	@Test
+	public void testGetBundleNames() throws Exception {
+		PortalBundleContentIndex portalBundleContentIndex = new PortalBundleContentIndex(_liferayHome.toPath());
+
+		Assert.assertEquals(
+			Arrays.asList("com.example.module.jar", "com.liferay.blogs.web.jar", "com.liferay.comment.api.jar"),
+			portalBundleContentIndex.getBundleNames());
+
+		_writeLpkg("com.liferay.wiki.web.jar", "wiki");
+
+		File lpkgFile = _lpkgPath.toFile();
+
+		lpkgFile.setLastModified(lpkgFile.lastModified() + 2000);
+
+		Assert.assertEquals(
+			Arrays.asList("com.example.module.jar", "com.liferay.wiki.web.jar", "com.liferay.comment.api.jar"),
+			portalBundleContentIndex.getBundleNames());
+	}
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private static byte[] _bytes(String content) {
+		return content.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private void _writeLpkg(String storedBundleName, String storedContent) throws IOException {
+		try (ZipOutputStream zipOutputStream = new ZipOutputStream(Files.newOutputStream(_lpkgPath))) {
+			byte[] bytes = _bytes(storedContent);
+
+			ZipEntry zipEntry = new ZipEntry(storedBundleName);
+
+			CRC32 crc32 = new CRC32();
+
+			crc32.update(bytes);
+
+			zipEntry.setCompressedSize(bytes.length);
+			zipEntry.setCrc(crc32.getValue());
+			zipEntry.setMethod(ZipEntry.STORED);
+			zipEntry.setSize(bytes.length);
+
+			zipOutputStream.putNextEntry(zipEntry);
+
+			zipOutputStream.write(bytes);
+
+			zipOutputStream.closeEntry();
+
+			zipOutputStream.putNextEntry(new ZipEntry("com.liferay.comment.api.jar"));
+
+			zipOutputStream.write(_bytes("comment"));
+
+			zipOutputStream.closeEntry();
+
+			zipOutputStream.putNextEntry(new ZipEntry("liferay-marketplace.properties"));
+
+			zipOutputStream.closeEntry();
+		}
+	}
+
+	private File _liferayHome;
+	private Path _lpkgPath;
+
+}
\ No newline at end of file
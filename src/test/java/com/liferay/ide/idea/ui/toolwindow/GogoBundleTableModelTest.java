@@ -0,0 +1,50 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.ui.toolwindow;
+
+import com.liferay.ide.idea.server.gogo.GogoBundleSnapshot;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Gregory Amerson
+ */
+public class GogoBundleTableModelTest {
+
+	@Test
+	public void testUpdateAfterMissedSnapshot() {
+		GogoBundleTableModel gogoBundleTableModel = new GogoBundleTableModel(GogoBundleSnapshot.EMPTY);
+
+		gogoBundleTableModel.update(
+			GogoBundleSnapshot.parse(
+				"  512|Active     |   10|com.liferay.foo.api (1.0.0)\r\n" +
+					"  514|Active     |   15|com.liferay.foo.web (1.0.0)\r\n"));
+
+		Assert.assertEquals(2, gogoBundleTableModel.getRowCount());
+
+		gogoBundleTableModel.update(
+			GogoBundleSnapshot.parse(
+				"  512|Resolved   |   10|com.liferay.foo.api (1.0.0)\r\n" +
+					"  520|Active     |   15|com.liferay.foo.web (1.0.1)\r\n"));
+
+		Assert.assertEquals(2, gogoBundleTableModel.getRowCount());
+		Assert.assertEquals(512L, gogoBundleTableModel.getValueAt(0, 0));
+		Assert.assertEquals("Resolved", gogoBundleTableModel.getValueAt(0, 1));
+		Assert.assertEquals(520L, gogoBundleTableModel.getValueAt(1, 0));
+		Assert.assertEquals("1.0.1", gogoBundleTableModel.getValueAt(1, 3));
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.util;
+
+import java.io.PrintStream;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Terry Jia
+ */
+public class LineOutputStreamTest {
+
+	@Test
+	public void testWrite() throws Exception {
+		List<String> lines = new ArrayList<>();
+
+		try (PrintStream printStream = new PrintStream(new LineOutputStream(lines::add), true, "UTF-8")) {
+			printStream.print("api\tAPI project\r\n");
+
+			Assert.assertEquals(Arrays.asList("api\tAPI project"), lines);
+
+			printStream.print("mvc-portlet");
+			printStream.write('\n');
+			printStream.print("\nservice-builder");
+		}
+
+		Assert.assertEquals(Arrays.asList("api\tAPI project", "mvc-portlet", "", "service-builder"), lines);
+	}
+
+}
\ No newline at end of file
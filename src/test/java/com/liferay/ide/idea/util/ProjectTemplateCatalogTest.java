@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.ide.idea.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.Arrays;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * @author Terry Jia
+ */
+public class ProjectTemplateCatalogTest {
+
+	@Test
+	public void testCreate() throws Exception {
+		ProjectTemplateCatalog projectTemplateCatalog = ProjectTemplateCatalog.create(
+			_createBladeJar(), new String[] {"api", "mvc-portlet"});
+
+		Assert.assertEquals(Arrays.asList("api", "mvc-portlet"), projectTemplateCatalog.getTemplateNames());
+		Assert.assertEquals(
+			"[7.0.0,7.3.0)", String.valueOf(projectTemplateCatalog.getSupportedVersionRange("mvc-portlet")));
+		Assert.assertNull(projectTemplateCatalog.getSupportedVersionRange("api"));
+		Assert.assertNull(projectTemplateCatalog.getSupportedVersionRange("service-builder"));
+	}
+
+	@Test
+	public void testCreateIgnoresUnknownTemplateNames() throws Exception {
+		ProjectTemplateCatalog projectTemplateCatalog = ProjectTemplateCatalog.create(
+			_createBladeJar(), new String[] {"Error:", "api", "Downloading", "mvc-portlet", "war-hook"});
+
+		Assert.assertEquals(Arrays.asList("api", "mvc-portlet"), projectTemplateCatalog.getTemplateNames());
+	}
+
+	@Test
+	public void testWriteAndRead() throws Exception {
+		ProjectTemplateCatalog projectTemplateCatalog = ProjectTemplateCatalog.create(
+			_createBladeJar(), new String[] {"api", "mvc-portlet"});
+
+		File catalogDir = temporaryFolder.newFolder();
+
+		Path catalogPath = catalogDir.toPath();
+
+		catalogPath = catalogPath.resolve("1564617600000.txt");
+
+		projectTemplateCatalog.write(catalogPath);
+
+		Assert.assertEquals(1, catalogDir.list().length);
+
+		projectTemplateCatalog = ProjectTemplateCatalog.read(catalogPath);
+
+		Assert.assertEquals(Arrays.asList("api", "mvc-portlet"), projectTemplateCatalog.getTemplateNames());
+		Assert.assertEquals(
+			"[7.0.0,7.3.0)", String.valueOf(projectTemplateCatalog.getSupportedVersionRange("mvc-portlet")));
+	}
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private File _createBladeJar() throws IOException {
+		File bladeJar = temporaryFolder.newFile("blade.jar");
+
+		try (ZipOutputStream zipOutputStream = new ZipOutputStream(Files.newOutputStream(bladeJar.toPath()))) {
+			_putEntry(zipOutputStream, "com.liferay.project.templates.api-1.0.0.jar", _createTemplateJar(null));
+			_putEntry(
+				zipOutputStream, "com.liferay.project.templates.mvc.portlet-1.0.0.jar",
+				_createTemplateJar("[7.0,7.3)"));
+		}
+
+		return bladeJar;
+	}
+
+	private byte[] _createTemplateJar(String liferayVersions) throws IOException {
+		Manifest manifest = new Manifest();
+
+		Attributes attributes = manifest.getMainAttributes();
+
+		attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+
+		if (liferayVersions != null) {
+			attributes.putValue("Liferay-Versions", liferayVersions);
+		}
+
+		ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+
+		try (JarOutputStream jarOutputStream = new JarOutputStream(byteArrayOutputStream, manifest)) {
+			jarOutputStream.putNextEntry(new ZipEntry("archetype-resources/pom.xml"));
+
+			jarOutputStream.closeEntry();
+		}
+
+		return byteArrayOutputStream.toByteArray();
+	}
+
+	private void _putEntry(ZipOutputStream zipOutputStream, String name, byte[] bytes) throws IOException {
+		zipOutputStream.putNextEntry(new ZipEntry(name));
+
+		zipOutputStream.write(bytes);
+
+		zipOutputStream.closeEntry();
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,5 @@
+package com.liferay.ide.service;
+
+public interface MyModelLocalService {
+
+}
\ No newline at end of file